@@ -0,0 +1,200 @@
+package edutrack.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.logging.Level;
+
+import edutrack.commons.core.Config;
+import edutrack.commons.core.LogsCenter;
+import edutrack.logic.commands.exceptions.CommandException;
+import edutrack.logic.parser.exceptions.ParseException;
+import edutrack.model.AddressBook;
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
+import edutrack.model.tag.Tag;
+import edutrack.model.util.SyntheticDataUtil;
+import edutrack.storage.AsyncStorage;
+import edutrack.storage.JournalingAddressBookStorage;
+import edutrack.storage.JsonUserPrefsStorage;
+import edutrack.storage.Storage;
+import edutrack.storage.StorageManager;
+
+/**
+ * Replays a scripted mix of commands through {@code LogicManager#execute(String)} on a synthetic address book and
+ * reports the latency of each command word. Runs without the JavaFX window.
+ *
+ * Usage: {@code ./gradlew loadTest [-PloadTestPersons=N] [-PloadTestCommands=N] [-PloadTestSeed=N]}
+ */
+public class LoadTestHarness {
+
+    private static final int DEFAULT_PERSON_COUNT = 10000;
+    private static final int DEFAULT_COMMAND_COUNT = 2000;
+    private static final long DEFAULT_SEED = 1;
+
+    /** Commands run before the measured ones, so that the JIT compiler has warmed up. */
+    private static final int WARMUP_COMMAND_COUNT = 200;
+
+    private static final String[] FIND_KEYWORDS = { "Alex", "Priya", "Tan", "Lim", "Wei", "Nur", "Zhi" };
+
+    private final Logic logic;
+    private final Storage storage;
+    private final List<Group> groups;
+    private final List<Tag> tags;
+    private final Random random;
+    private final Map<String, List<Long>> latenciesByCommandWord = new TreeMap<>();
+    private final Map<String, Integer> failuresByCommandWord = new TreeMap<>();
+    private int addedPersonCount = 0;
+
+    private LoadTestHarness(AddressBook addressBook, Path dataFolder, long seed) throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFolder.resolve("addressbook.json"));
+        storage = new AsyncStorage(new StorageManager(
+                new JournalingAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                new JsonUserPrefsStorage(dataFolder.resolve("preferences.json"))));
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        Model model = new ModelManager(addressBook, userPrefs);
+        logic = new LogicManager(model, storage);
+        groups = List.copyOf(addressBook.getGroupList());
+        tags = List.copyOf(addressBook.getTagList());
+        random = new Random(seed);
+    }
+
+    /**
+     * Runs the load test with the person count, command count and seed given in {@code args}, in that order.
+     */
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int commandCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMAND_COUNT;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        // logging every command would dominate the measured latencies
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        System.out.printf("Generating %d persons (seed %d)...%n", personCount, seed);
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(personCount, seed);
+        Path dataFolder = Files.createTempDirectory("edutrack-load-test");
+        try {
+            LoadTestHarness harness = new LoadTestHarness(addressBook, dataFolder, seed);
+            harness.run(WARMUP_COMMAND_COUNT);
+            harness.latenciesByCommandWord.clear();
+            harness.failuresByCommandWord.clear();
+
+            System.out.printf("Running %d commands...%n", commandCount);
+            harness.run(commandCount);
+            harness.printReport();
+        } finally {
+            try (var files = Files.walk(dataFolder)) {
+                files.sorted((first, second) -> second.compareTo(first)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Executes {@code commandCount} commands from the scripted mix, recording the latency of each.
+     */
+    private void run(int commandCount) throws IOException {
+        for (int i = 0; i < commandCount; i++) {
+            String commandText = nextCommandText();
+            String commandWord = commandText.split(" ", 2)[0];
+
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                // e.g. a tag that the person already has; the latency of rejecting the command still counts
+                failuresByCommandWord.merge(commandWord, 1, Integer::sum);
+            }
+            long elapsed = System.nanoTime() - start;
+            latenciesByCommandWord.computeIfAbsent(commandWord, unused -> new ArrayList<>()).add(elapsed);
+        }
+        storage.flush();
+    }
+
+    /**
+     * Returns the next command of the mix. Searches and listings are the most common, as during a tutorial.
+     */
+    private String nextCommandText() {
+        int shownCount = logic.getFilteredPersonList().size();
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            return "find n/" + pick(FIND_KEYWORDS);
+        } else if (roll < 28) {
+            return "find g/" + groups.get(random.nextInt(groups.size())).groupName;
+        } else if (roll < 36) {
+            return "findtag t/" + tags.get(random.nextInt(tags.size())).tagName;
+        } else if (roll < 48) {
+            return "list";
+        } else if (roll < 56) {
+            addedPersonCount++;
+            return "add n/Load Test Person " + addedPersonCount + " p/9" + (1000000 + random.nextInt(8999999))
+                    + " e/load" + addedPersonCount + "@example.com a/Blk " + (1 + random.nextInt(999)) + " Test Street";
+        } else if (roll < 66) {
+            return "edit " + pickIndex(shownCount) + " p/8" + (1000000 + random.nextInt(8999999));
+        } else if (roll < 70) {
+            return "delete " + pickIndex(shownCount);
+        } else if (roll < 76) {
+            return "note/create " + pickIndex(shownCount) + " no/Followed up on attendance.";
+        } else if (roll < 78) {
+            return "note/delete " + pickIndex(shownCount);
+        } else if (roll < 88) {
+            return "tag/assign " + pickIndex(shownCount) + " t/" + tags.get(random.nextInt(tags.size())).tagName;
+        } else if (roll < 98) {
+            return "group/assign " + pickIndex(shownCount) + " g/"
+                    + groups.get(random.nextInt(groups.size())).groupName;
+        } else {
+            return "sort";
+        }
+    }
+
+    private String pick(String[] options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    /**
+     * Returns a one-based index into a displayed list of {@code shownCount} persons.
+     * An empty list still gets index 1, so that the command is measured while it is rejected.
+     */
+    private int pickIndex(int shownCount) {
+        return 1 + random.nextInt(Math.max(1, shownCount));
+    }
+
+    /**
+     * Prints the count, failures, p50, p99 and maximum latency of each command word.
+     */
+    private void printReport() {
+        System.out.printf("%-16s %8s %8s %10s %10s %10s%n", "command", "count", "failed", "p50 (ms)", "p99 (ms)",
+                "max (ms)");
+        latenciesByCommandWord.forEach((commandWord, latencies) -> {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            System.out.printf("%-16s %8d %8d %10.3f %10.3f %10.3f%n", commandWord, sorted.length,
+                    failuresByCommandWord.getOrDefault(commandWord, 0), toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 99)), toMillis(sorted[sorted.length - 1]));
+        });
+    }
+
+    /**
+     * Returns the nearest-rank {@code percent}th percentile of the non-empty, ascending {@code sorted}.
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static edutrack.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NAME;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NOTE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_PHONE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import edutrack.logic.commands.Command;
+import edutrack.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing user input into commands. Parsing does not depend on the size of the address book.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({
+        "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 g/CS2103T t/friends",
+        "edit 12 p/91234567 e/johndoe@example.com t/needs_help t/median",
+        "find n/alex david",
+        "list"
+    })
+    public String userInput;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return addressBookParser.parseCommand(userInput);
+    }
+
+    /**
+     * Tokenizes the user input with every prefix, as the parsers of commands with many fields do.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG, PREFIX_GROUP, PREFIX_NOTE);
+    }
+}
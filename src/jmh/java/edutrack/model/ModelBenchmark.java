@@ -0,0 +1,73 @@
+package edutrack.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edutrack.logic.commands.FindCommand;
+import edutrack.model.group.Group;
+import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.NameIsSimilarToKeywordsPredicate;
+import edutrack.model.util.SyntheticDataUtil;
+
+/**
+ * Measures the model operations behind the find and stats commands on address books of increasing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Model model;
+    private int filterCount = 0;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(size, 1), new UserPrefs());
+    }
+
+    /**
+     * Applies a name predicate to the filtered person list, as the find command does.
+     * A new predicate is used each time, so the list is filtered again.
+     */
+    @Benchmark
+    public int filterByName() {
+        String keyword = (filterCount++ % 2 == 0) ? "alex" : "tan";
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of(keyword)));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Finds the persons with a name like a misspelt keyword and ranks them, as {@code find ~n/} does.
+     */
+    @Benchmark
+    public int findSimilarName() {
+        String keyword = (filterCount++ % 2 == 0) ? "alx" : "balakrishan";
+        new FindCommand(new NameIsSimilarToKeywordsPredicate(List.of(keyword))).execute(model);
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Reads the tags in use overall and per group, as the stats window does when it is refreshed.
+     */
+    @Benchmark
+    public int computeStatistics() {
+        StatsModel stats = model.getStatsModel();
+        int tagLineCount = stats.getTagCounts().size();
+        for (Group group : model.getAddressBook().getGroupList()) {
+            tagLineCount += stats.getTagCountsInGroup(group).size();
+        }
+        return tagLineCount;
+    }
+}
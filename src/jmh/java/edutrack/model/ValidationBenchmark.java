@@ -0,0 +1,72 @@
+package edutrack.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Address;
+import edutrack.model.person.Email;
+import edutrack.model.person.Name;
+import edutrack.model.person.Phone;
+import edutrack.model.tag.Tag;
+
+/**
+ * Compares validating the fields of a person with the checks of the model against {@code String.matches}, which
+ * compiles the validation regex again on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    /** Whether the name contains non-ASCII letters, which are checked by the regex instead of the ASCII fast path. */
+    @Param({"ascii", "unicode"})
+    public String nameCharacters;
+
+    private String name;
+    private final String phone = "87438807";
+    private final String email = "alexyeoh@example.com";
+    private final String address = "Blk 30 Geylang Street 29, #06-40";
+    private final String tag = "needs_help";
+    private final String group = "CS2103T-F14a";
+
+    @Setup
+    public void setUp() {
+        name = nameCharacters.equals("ascii") ? "Alex Yeoh" : "Jos\u00e9 Mar\u00eda N\u00fa\u00f1ez";
+    }
+
+    /**
+     * Validates each field the way the model used to, compiling each regex on every call.
+     */
+    @Benchmark
+    public void stringMatches(Blackhole blackhole) {
+        blackhole.consume(name.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(phone.matches(Phone.VALIDATION_REGEX));
+        blackhole.consume(email.matches(Email.VALIDATION_REGEX));
+        blackhole.consume(address.matches(Address.VALIDATION_REGEX));
+        blackhole.consume(tag.matches(Tag.VALIDATION_REGEX));
+        blackhole.consume(group.matches(Group.VALIDATION_REGEX));
+    }
+
+    /**
+     * Validates each field with the precompiled patterns and hand-written checks of the model.
+     */
+    @Benchmark
+    public void modelValidation(Blackhole blackhole) {
+        blackhole.consume(Name.isValidName(name));
+        blackhole.consume(Phone.isValidPhone(phone));
+        blackhole.consume(Email.isValidEmail(email));
+        blackhole.consume(Address.isValidAddress(address));
+        blackhole.consume(Tag.isValidTagName(tag));
+        blackhole.consume(Group.isValidGroupName(group));
+    }
+}
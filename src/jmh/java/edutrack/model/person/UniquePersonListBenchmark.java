@@ -0,0 +1,66 @@
+package edutrack.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edutrack.model.util.SyntheticDataUtil;
+
+/**
+ * Measures adding persons to and looking persons up in a {@code UniquePersonList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person existingPerson;
+    private Person missingPerson;
+
+    /**
+     * Generates {@code size} persons and a list holding all of them.
+     */
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticPersons(size, 1);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        existingPerson = persons.get(size / 2);
+        missingPerson = SyntheticDataUtil.getSyntheticPersons(size + 1, 2).get(size);
+    }
+
+    /**
+     * Adds all the persons one by one to an empty list, each add checking for duplicates.
+     */
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsExisting() {
+        return personList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return personList.contains(missingPerson);
+    }
+}
@@ -0,0 +1,122 @@
+package edutrack.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.util.SyntheticDataUtil;
+
+/**
+ * Measures saving and loading address books in each storage format.
+ * The 200k size checks that loading still scales linearly beyond the sizes used elsewhere.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "200000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private String json;
+    private ByteBuffer binary;
+    private Path folder;
+    private Path jsonFile;
+    private Path binaryFile;
+
+    /**
+     * Generates an address book of {@code size} persons and saves it in each format.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(size, 1);
+        json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.encode(addressBook, out);
+        binary = ByteBuffer.wrap(out.toByteArray());
+
+        folder = Files.createTempDirectory("edutrack-benchmark");
+        jsonFile = folder.resolve("addressbook.json");
+        binaryFile = folder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the saved files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(folder)) {
+            files.sorted((first, second) -> second.compareTo(first)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Serializes the address book to a JSON string through {@code JsonSerializableAddressBook} and back.
+     */
+    @Benchmark
+    public AddressBook jsonSerializableRoundTrip() throws IOException, IllegalValueException {
+        String serialized = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        return JsonUtil.fromJsonString(serialized, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public AddressBook jsonSerializableToModelType() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    /**
+     * Binary-encodes the address book in memory and decodes it back.
+     */
+    @Benchmark
+    public AddressBook binaryRoundTrip() throws IOException, IllegalValueException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.encode(addressBook, out);
+        return BinaryAddressBookStorage.decode(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    @Benchmark
+    public AddressBook binaryDecode() throws IllegalValueException {
+        return BinaryAddressBookStorage.decode(binary.duplicate());
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJsonFile() throws Exception {
+        return new JsonAddressBookStorage(jsonFile).readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinaryFile() throws Exception {
+        return new BinaryAddressBookStorage(binaryFile).readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveJsonFile() throws IOException {
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveBinaryFile() throws IOException {
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+    }
+}
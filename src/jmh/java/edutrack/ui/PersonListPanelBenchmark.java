@@ -0,0 +1,98 @@
+package edutrack.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edutrack.model.person.Person;
+import edutrack.model.util.SyntheticDataUtil;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+
+/**
+ * Measures the work of one frame of scrolling the person list by a page, in which every visible cell is given
+ * another person and the cells are then styled and laid out, as the list view does before rendering the frame.
+ * Compares loading a new card from FXML for each update against rebinding the card that the cell already has.
+ *
+ * The cards are laid out in a scene that is never shown, so only the JavaFX toolkit is needed. Starting it requires
+ * a display, unless the benchmark is run with {@code -PjmhHeadless}, which uses the headless Monocle platform. Laying
+ * out text still needs the Pango library of the system.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PersonListPanelBenchmark {
+
+    /** About as many cards as fit in the person list of a maximised window. */
+    private static final int VISIBLE_CELL_COUNT = 10;
+    private static final int PERSON_COUNT = 10_000;
+
+    private List<Person> persons;
+    private final List<PersonCard> cards = new ArrayList<>();
+    private VBox cells;
+    private int firstVisibleIndex = 0;
+
+    @Setup
+    public void setUp() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // the toolkit was started by an earlier trial in this JVM
+        }
+        persons = List.copyOf(SyntheticDataUtil.getSyntheticAddressBook(PERSON_COUNT, 1).getPersonList());
+        cells = new VBox();
+        new Scene(cells, 800, VISIBLE_CELL_COUNT * 120);
+        for (int i = 0; i < VISIBLE_CELL_COUNT; i++) {
+            PersonCard card = new PersonCard();
+            cards.add(card);
+            cells.getChildren().add(card.getRoot());
+        }
+    }
+
+    /**
+     * Scrolls by a page the way the cells used to update: each one loads a new card.
+     */
+    @Benchmark
+    public VBox loadCardPerUpdate() {
+        int first = nextPage();
+        List<Node> roots = new ArrayList<>(VISIBLE_CELL_COUNT);
+        for (int i = 0; i < VISIBLE_CELL_COUNT; i++) {
+            roots.add(new PersonCard(persons.get(first + i), first + i + 1).getRoot());
+        }
+        cells.getChildren().setAll(roots);
+        return layOut();
+    }
+
+    /**
+     * Scrolls by a page the way the cells update now: each one rebinds its card to the new person.
+     */
+    @Benchmark
+    public VBox rebindCardPerUpdate() {
+        int first = nextPage();
+        for (int i = 0; i < VISIBLE_CELL_COUNT; i++) {
+            cards.get(i).setPerson(persons.get(first + i), first + i + 1);
+        }
+        return layOut();
+    }
+
+    private int nextPage() {
+        firstVisibleIndex = (firstVisibleIndex + VISIBLE_CELL_COUNT) % (PERSON_COUNT - VISIBLE_CELL_COUNT);
+        return firstVisibleIndex;
+    }
+
+    private VBox layOut() {
+        cells.applyCss();
+        cells.layout();
+        return cells;
+    }
+}
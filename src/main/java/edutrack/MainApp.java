@@ -11,6 +11,7 @@ import edutrack.commons.core.Version;
 import edutrack.commons.exceptions.DataLoadingException;
 import edutrack.commons.util.ConfigUtil;
 import edutrack.commons.util.StringUtil;
+import edutrack.logic.CommandMetrics;
 import edutrack.logic.Logic;
 import edutrack.logic.LogicManager;
 import edutrack.model.AddressBook;
@@ -21,7 +22,9 @@ import edutrack.model.ReadOnlyUserPrefs;
 import edutrack.model.UserPrefs;
 import edutrack.model.util.SampleDataUtil;
 import edutrack.storage.AddressBookStorage;
-import edutrack.storage.JsonAddressBookStorage;
+import edutrack.storage.AsyncStorage;
+import edutrack.storage.BinaryAddressBookStorage;
+import edutrack.storage.JournalingAddressBookStorage;
 import edutrack.storage.JsonUserPrefsStorage;
 import edutrack.storage.Storage;
 import edutrack.storage.StorageManager;
@@ -57,16 +60,32 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new AsyncStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, new CommandMetrics(CommandMetrics.DEFAULT_CSV_FILE_PATH));
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using data file format : " + userPrefs.getAddressBookStorageFormat());
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case BINARY:
+            // an existing JSON data file is converted, whether it was kept at its path or left at the default one
+            return new BinaryAddressBookStorage(addressBookFilePath, new UserPrefs().getAddressBookFilePath());
+        case JSON:
+        default:
+            return new JournalingAddressBookStorage(addressBookFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -84,6 +103,9 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (!addressBookOptional.isPresent()) {
+                saveInitialData(storage, initialData);
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -93,6 +115,17 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Writes {@code initialData} to {@code storage}, so that the data file exists even if no command modifies it.
+     */
+    private void saveInitialData(Storage storage, ReadOnlyAddressBook initialData) {
+        try {
+            storage.saveAddressBook(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to create data file : " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +210,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
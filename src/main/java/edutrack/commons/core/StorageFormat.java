@@ -0,0 +1,11 @@
+package edutrack.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON snapshot with an append-only journal of the changes since. */
+    JSON,
+    /** Compact binary snapshot, for large address books that must load quickly. */
+    BINARY
+}
@@ -1,10 +1,17 @@
 package edutrack.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +85,136 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it never holds partially written content, even if the app crashes.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), false);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but streams the content of the file from {@code contentWriter}
+     * instead of holding all of it in memory.
+     *
+     * @return the number of bytes written.
+     */
+    public static long writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        return writeAtomically(file, contentWriter, false);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but first keeps the current content of the file
+     * at {@link #getBackupPath(Path)}, replacing the previous backup.
+     */
+    public static void writeToFileWithBackup(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes), true);
+    }
+
+    /**
+     * Similar to {@link #writeToFileWithBackup(Path, String)}, but streams the content of the file from
+     * {@code contentWriter} instead of holding all of it in memory.
+     *
+     * @return the number of bytes written.
+     */
+    public static long writeToFileWithBackup(Path file, ContentWriter contentWriter) throws IOException {
+        return writeAtomically(file, contentWriter, true);
+    }
+
+    /**
+     * Returns the path of the backup kept by {@link #writeToFileWithBackup(Path, String)} for {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the journal of changes kept alongside {@code file} by a journaling storage.
+     */
+    public static Path getJournalPath(Path file) {
+        return file.resolveSibling(file.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns true if {@code file} locates {@code dataFile} or the backup or journal kept alongside it, so that writing
+     * to {@code file} would overwrite data.
+     */
+    public static boolean isDataFileOrCompanion(Path file, Path dataFile) {
+        return isSameFile(file, dataFile) || isSameFile(file, getBackupPath(dataFile))
+                || isSameFile(file, getJournalPath(dataFile));
+    }
+
+    /**
+     * Returns true if {@code file} and {@code otherFile} locate the same file, either as the same absolute path or,
+     * when both exist, through links or a case-insensitive file system.
+     */
+    private static boolean isSameFile(Path file, Path otherFile) {
+        if (file.toAbsolutePath().normalize().equals(otherFile.toAbsolutePath().normalize())) {
+            return true;
+        }
+        try {
+            return Files.exists(file) && Files.exists(otherFile) && Files.isSameFile(file, otherFile);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the content from {@code contentWriter} to a temporary file next to {@code file}, forces it to the
+     * storage device and then moves it over {@code file}.
+     *
+     * @return the number of bytes written.
+     */
+    private static long writeAtomically(Path file, ContentWriter contentWriter, boolean keepBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(),
+                file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        long byteCount;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+                byteCount = channel.position();
+            }
+
+            if (keepBackup && isFileExists(file)) {
+                backUp(file);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return byteCount;
+    }
+
+    private static void backUp(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            // A hard link keeps the current content alive once the file is replaced, without copying it
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -48,6 +48,94 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns {@code s} with the case of each character folded, so that two strings of the same length are equal
+     * after folding exactly when {@link String#equalsIgnoreCase(String)} considers them equal.
+     * This lets strings be compared ignoring case by hashing, e.g. as the keys of a map.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the number of single-character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code first} into {@code second}, or {@code maxDistance + 1} if more than {@code maxDistance}
+     * are needed. Stops as soon as the distance is known to exceed {@code maxDistance}.
+     * <pre>
+     *       getEditDistance("alcie", "alice", 2) == 1 // one swap
+     *       getEditDistance("alex", "alexa", 2) == 1 // one insertion
+     *       getEditDistance("tan", "lim", 2) == 3 // exceeds the maximum
+     *       </pre>
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // rows of the optimal string alignment table for the previous two and the current prefix of first
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code s} is a valid name for a label such as a tag or group: between 1 and {@code maxLength}
+     * characters, each of which is an ASCII letter or digit, {@code _}, {@code -} or {@code /}.
+     * This is what the regex {@code [\p{Alnum}_\-/]+} matches, checked without compiling or running a regex.
+     */
+    public static boolean isValidLabelName(String s, int maxLength) {
+        requireNonNull(s);
+        if (s.isEmpty() || s.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '_' && c != '-' && c != '/') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -0,0 +1,324 @@
+package edutrack.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.util.StringUtil;
+
+/**
+ * Records, for each command word, how long its commands took to parse, execute and save, how many bytes they caused
+ * to be written to the data files and how many bytes they allocated.
+ *
+ * If a CSV file is given, the totals are appended to it at most once every {@link #CSV_DUMP_INTERVAL_MILLIS}
+ * milliseconds, and whenever {@link #dumpToCsv()} is called. The file is written on a background thread, so that
+ * recording a command never waits for the disk. Once the file is larger than {@link #MAX_CSV_FILE_SIZE_IN_BYTES}, it
+ * is moved aside to a file with the {@code .1} suffix and a new one is started.
+ */
+public class CommandMetrics {
+
+    /** The CSV file written by the app, next to the log file. */
+    public static final Path DEFAULT_CSV_FILE_PATH = Paths.get("addressbook-metrics.csv");
+    public static final String CSV_HEADER =
+            "timestamp,command,count,parse_ms,execute_ms,save_ms,bytes_written,bytes_allocated";
+    public static final long CSV_DUMP_INTERVAL_MILLIS = 60_000;
+    public static final long MAX_CSV_FILE_SIZE_IN_BYTES = 1 << 20; // 1MB
+    /** The command word under which input that names no command is recorded, which cannot be a command word. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been recorded yet.";
+    public static final String MESSAGE_SUMMARY_HEADER = "Mean time and memory per command:";
+    public static final String MESSAGE_ALLOCATION_UNSUPPORTED = "allocation not measured";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, CommandStats> statsByCommandWord = new TreeMap<>();
+    private final Path csvFilePath;
+    private final long csvDumpIntervalMillis;
+    /** Appends to the CSV file in the order the totals were taken, or null if there is no CSV file. */
+    private final ExecutorService csvWriter;
+    private long lastDumpTimeMillis = System.currentTimeMillis();
+
+    /**
+     * Creates a {@code CommandMetrics} that is not written to a CSV file.
+     */
+    public CommandMetrics() {
+        this.csvFilePath = null;
+        this.csvDumpIntervalMillis = CSV_DUMP_INTERVAL_MILLIS;
+        this.csvWriter = null;
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that is periodically appended to the CSV file at {@code csvFilePath}.
+     */
+    public CommandMetrics(Path csvFilePath) {
+        this(csvFilePath, CSV_DUMP_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that is appended to the CSV file at {@code csvFilePath} at most once every
+     * {@code csvDumpIntervalMillis} milliseconds.
+     */
+    CommandMetrics(Path csvFilePath, long csvDumpIntervalMillis) {
+        this.csvFilePath = requireNonNull(csvFilePath);
+        this.csvDumpIntervalMillis = csvDumpIntervalMillis;
+        this.csvWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts measuring a command on the calling thread. Its parse phase starts immediately.
+     */
+    public Measurement startMeasurement() {
+        return new Measurement();
+    }
+
+    /**
+     * Records the finished {@code measurement} of a command with {@code commandWord}.
+     * A phase that was still in progress, because the command failed, ends now.
+     * If the totals are due to be appended to the CSV file, they are appended in the background.
+     */
+    public synchronized void record(String commandWord, Measurement measurement) {
+        requireNonNull(commandWord);
+        measurement.finish();
+        statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats()).add(measurement);
+
+        if (csvFilePath != null && System.currentTimeMillis() - lastDumpTimeMillis >= csvDumpIntervalMillis) {
+            String rows = takeCsvRows();
+            csvWriter.execute(() -> {
+                try {
+                    appendToCsv(rows);
+                } catch (IOException e) {
+                    logger.warning("Failed to write command metrics: " + StringUtil.getDetails(e));
+                }
+            });
+        }
+    }
+
+    /**
+     * Records that {@code bytes} were written to the data files on behalf of commands with {@code commandWord}.
+     */
+    public synchronized void recordBytesWritten(String commandWord, long bytes) {
+        requireNonNull(commandWord);
+        statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats()).bytesWritten += bytes;
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} recorded so far.
+     */
+    public synchronized long getCommandCount(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? 0 : stats.count;
+    }
+
+    /**
+     * Returns the number of bytes written to the data files on behalf of commands with {@code commandWord} so far.
+     */
+    public synchronized long getBytesWritten(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? 0 : stats.bytesWritten;
+    }
+
+    /**
+     * Returns a human-readable summary of the mean cost of each command word.
+     */
+    public synchronized String getSummary() {
+        if (statsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_SUMMARY_HEADER);
+        statsByCommandWord.forEach((commandWord, stats) -> summary.append('\n').append(commandWord).append(": ")
+                .append(stats.toSummary()));
+        return summary.toString();
+    }
+
+    /**
+     * Appends the totals of each command word so far to the CSV file, if there is one, and waits until they and any
+     * totals appended in the background have been written.
+     */
+    public void dumpToCsv() throws IOException {
+        if (csvFilePath == null) {
+            return;
+        }
+
+        String rows;
+        synchronized (this) {
+            rows = takeCsvRows();
+        }
+        Future<?> write = csvWriter.submit(() -> {
+            appendToCsv(rows);
+            return null;
+        });
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing command metrics");
+        }
+    }
+
+    /**
+     * Returns CSV rows with the totals of each command word so far, and restarts the interval between dumps.
+     */
+    private String takeCsvRows() {
+        assert Thread.holdsLock(this);
+        lastDumpTimeMillis = System.currentTimeMillis();
+        StringBuilder rows = new StringBuilder();
+        String timestamp = Instant.ofEpochMilli(lastDumpTimeMillis).toString();
+        statsByCommandWord.forEach((commandWord, stats) -> rows.append(timestamp).append(',').append(commandWord)
+                .append(',').append(stats.toCsvValues()).append('\n'));
+        return rows.toString();
+    }
+
+    /**
+     * Appends {@code rows} to the CSV file, starting a new file with a header if there is none or the current one
+     * is full. Only called on the CSV writer thread.
+     */
+    private void appendToCsv(String rows) throws IOException {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        if (Files.exists(csvFilePath) && Files.size(csvFilePath) > MAX_CSV_FILE_SIZE_IN_BYTES) {
+            Files.move(csvFilePath, getRolledOverCsvFilePath(csvFilePath), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        String header = Files.exists(csvFilePath) ? "" : CSV_HEADER + '\n';
+        Path parent = csvFilePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(csvFilePath, header + rows, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the path that a full CSV file at {@code csvFilePath} is moved to.
+     */
+    public static Path getRolledOverCsvFilePath(Path csvFilePath) {
+        return csvFilePath.resolveSibling(csvFilePath.getFileName() + ".1");
+    }
+
+    /**
+     * Returns the number of bytes allocated by the calling thread so far, or -1 if the JVM cannot measure it.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        if (!(threadMxBean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        if (!allocationMxBean.isThreadAllocatedMemorySupported()
+                || !allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return allocationMxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static String formatMillis(long nanos) {
+        // the CSV must not depend on the decimal separator of the locale
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * The parse, execute and save phases of a command on one thread, measured one after another.
+     */
+    public static class Measurement {
+        private static final int PHASE_COUNT = 3;
+
+        private final long[] phaseNanos = new long[PHASE_COUNT];
+        private final long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        private long phaseStartTime = System.nanoTime();
+        private int phase = 0;
+        private long allocatedBytes = -1;
+
+        private Measurement() {}
+
+        /**
+         * Ends the current phase and starts the next one.
+         */
+        public void endPhase() {
+            assert phase < PHASE_COUNT : "A command only has parse, execute and save phases";
+            long now = System.nanoTime();
+            phaseNanos[phase++] = now - phaseStartTime;
+            phaseStartTime = now;
+        }
+
+        private void finish() {
+            if (phase < PHASE_COUNT) {
+                endPhase();
+            }
+            long endAllocatedBytes = getCurrentThreadAllocatedBytes();
+            if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+                allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+            }
+        }
+    }
+
+    /**
+     * Running totals of the commands with one command word.
+     */
+    private static class CommandStats {
+        private long count = 0;
+        private long parseNanos = 0;
+        private long executeNanos = 0;
+        private long saveNanos = 0;
+        private long bytesWritten = 0;
+        private long allocatedBytes = 0;
+        private boolean isAllocationMeasured = true;
+
+        void add(Measurement measurement) {
+            count++;
+            parseNanos += measurement.phaseNanos[0];
+            executeNanos += measurement.phaseNanos[1];
+            saveNanos += measurement.phaseNanos[2];
+            if (measurement.allocatedBytes < 0) {
+                isAllocationMeasured = false;
+            } else {
+                allocatedBytes += measurement.allocatedBytes;
+            }
+        }
+
+        String toSummary() {
+            long divisor = Math.max(1, count);
+            return count + " run(s), parse " + formatMillis(parseNanos / divisor) + " ms, execute "
+                    + formatMillis(executeNanos / divisor) + " ms, save " + formatMillis(saveNanos / divisor)
+                    + " ms, " + bytesWritten / divisor + " bytes written, "
+                    + (isAllocationMeasured ? allocatedBytes / divisor + " bytes allocated"
+                                            : MESSAGE_ALLOCATION_UNSUPPORTED);
+        }
+
+        String toCsvValues() {
+            return count + "," + formatMillis(parseNanos) + "," + formatMillis(executeNanos) + ","
+                    + formatMillis(saveNanos) + "," + bytesWritten + "," + (isAllocationMeasured ? allocatedBytes : -1);
+        }
+    }
+}
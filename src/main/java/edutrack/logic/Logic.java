@@ -1,12 +1,14 @@
 package edutrack.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.logic.commands.CommandResult;
 import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.StatsModel;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
 import javafx.collections.ObservableList;
@@ -37,6 +39,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of groups */
     ObservableList<Group> getFilteredGroupList();
 
+    /**
+     * Returns the statistics of the persons in the address book.
+     *
+     * @see edutrack.model.Model#getStatsModel()
+     */
+    StatsModel getStatsModel();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -51,4 +60,17 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Blocks until all changes to the address book have been written to storage.
+     *
+     * @throws CommandException If a pending save failed.
+     */
+    void flushPendingSaves() throws CommandException;
+
+    /**
+     * Sets the handler that is given an error message, possibly from another thread,
+     * whenever saving the address book in the background fails.
+     */
+    void setSaveFailureHandler(Consumer<String> failureHandler);
 }
@@ -1,20 +1,27 @@
 package edutrack.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.commons.core.LogsCenter;
+import edutrack.commons.util.FileUtil;
+import edutrack.commons.util.StringUtil;
 import edutrack.logic.commands.ClearCommand;
 import edutrack.logic.commands.Command;
 import edutrack.logic.commands.CommandResult;
+import edutrack.logic.commands.CommandResult.ExportContent;
 import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.logic.parser.AddressBookParser;
 import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.Model;
 import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.StatsModel;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
 import edutrack.storage.Storage;
@@ -34,14 +41,36 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+
+    /** Modification count of the address book at the time it was last known to match the data file. */
+    private long savedModificationCount;
+    private long saveCount = 0;
+    private long skippedSaveCount = 0;
+
+    /** Bytes written by the storage as of the last command, and the last command word that saved. */
+    private long observedBytesWritten;
+    private String lastSavingCommandWord;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is assumed to be in sync with {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records the cost of
+     * each command in {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
         this.model = model;
         this.storage = storage;
+        this.commandMetrics = requireNonNull(commandMetrics);
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
+        observedBytesWritten = storage.getBytesWritten();
     }
 
     @Override
@@ -57,19 +86,122 @@ public class LogicManager implements Logic {
             model.setPendingClearConfirmation(false);
         }
 
+        recordBytesWritten();
+        CommandMetrics.Measurement measurement = commandMetrics.startMeasurement();
+        String commandWord = trimmedCommand.split("\\s+", 2)[0];
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(commandText);
+            } catch (ParseException pe) {
+                if (commandWord.isEmpty() || pe.getMessage().equals(Messages.MESSAGE_UNKNOWN_COMMAND)) {
+                    // mistyped words share one entry, rather than adding one each
+                    commandWord = CommandMetrics.UNKNOWN_COMMAND_WORD;
+                }
+                throw pe;
+            }
+            measurement.endPhase();
+
+            commandResult = command.execute(model);
+            measurement.endPhase();
+
+            if (saveAddressBookIfModified()) {
+                lastSavingCommandWord = commandWord;
+            }
+            if (commandResult.getExportFilePath().isPresent()) {
+                export(commandResult.getExportContent(), commandResult.getExportFilePath().get());
+                lastSavingCommandWord = commandWord;
+            }
+            recordBytesWritten();
+        } finally {
+            commandMetrics.record(commandWord, measurement);
+        }
+
+        if (commandResult.isShowMetrics()) {
+            commandResult = new CommandResult(commandMetrics.getSummary());
+        }
+        return commandResult;
+    }
+
+    /**
+     * Credits the bytes written by the storage since the last command to the last command word that saved.
+     * Saves made in the background are only credited once they have been written.
+     */
+    private void recordBytesWritten() {
+        long bytesWritten = storage.getBytesWritten();
+        if (lastSavingCommandWord != null && bytesWritten > observedBytesWritten) {
+            commandMetrics.recordBytesWritten(lastSavingCommandWord, bytesWritten - observedBytesWritten);
+        }
+        observedBytesWritten = bytesWritten;
+    }
+
+    /**
+     * Saves the address book to storage, unless it has not been modified since it was last saved.
+     *
+     * @return true if the address book was saved.
+     */
+    private boolean saveAddressBookIfModified() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine(() -> "Address book unchanged, skipping save (" + skippedSaveCount + " saves avoided)");
+            return false;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedModificationCount = modificationCount;
+        saveCount++;
+        return true;
+    }
 
-        return commandResult;
+    /**
+     * Writes {@code exportContent} to {@code filePath} through the storage, unless the file would overwrite the data
+     * file or a file kept alongside it. The commands only ask for exports, so that every export is guarded here, and
+     * formatted and counted in the bytes written by the storage.
+     */
+    private void export(ExportContent exportContent, Path filePath) throws CommandException {
+        if (FileUtil.isDataFileOrCompanion(filePath, storage.getAddressBookFilePath())) {
+            throw new CommandException(String.format(Messages.MESSAGE_DATA_FILE_TARGET, filePath));
+        }
+        try {
+            switch (exportContent) {
+            case ADDRESS_BOOK:
+                storage.exportAddressBook(model.getAddressBook(), filePath);
+                break;
+            case STATISTICS:
+                storage.exportStatistics(model.getStatsModel(), model.getAddressBook().getGroupList(), filePath);
+                break;
+            default:
+                throw new AssertionError("Unknown export content: " + exportContent);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Returns the number of times the address book was written to storage.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     @Override
@@ -87,6 +219,11 @@ public class LogicManager implements Logic {
         return model.getFilteredGroupList();
     }
 
+    @Override
+    public StatsModel getStatsModel() {
+        return model.getStatsModel();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -101,4 +238,34 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Returns the metrics recorded for the commands executed so far.
+     */
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public void flushPendingSaves() throws CommandException {
+        try {
+            storage.flush();
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } finally {
+            recordBytesWritten();
+        }
+
+        try {
+            commandMetrics.dumpToCsv();
+        } catch (IOException ioe) {
+            logger.warning("Failed to write command metrics: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> failureHandler) {
+        requireNonNull(failureHandler);
+        storage.setSaveFailureHandler(ioe -> failureHandler.accept(getSaveErrorMessage(ioe)));
+    }
 }
@@ -19,6 +19,8 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_EXTRA_ARGUMENTS = "Extra arguments provided: %1$s";
+    public static final String MESSAGE_DATA_FILE_TARGET =
+            "Cannot write to %1$s, as it holds the data of EduTrack. Choose another file.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -33,7 +35,7 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code person} for display to the user.
+     * Formats the {@code person} for display to the user, with its tags and groups in the same order as its card.
      */
     public static String format(Person person) {
         final StringBuilder builder = new StringBuilder();
@@ -45,10 +47,10 @@ public class Messages {
                 .append("; Address: ")
                 .append(person.getAddress())
                 .append("; Tags: ");
-        person.getTags().forEach(builder::append);
+        person.getSortedTags().forEach(builder::append);
 
         builder.append("; Groups: ");
-        person.getGroups().forEach(builder::append);
+        person.getSortedGroups().forEach(builder::append);
 
         builder.append("; Note: ")
                 .append(person.getNote());
@@ -2,7 +2,9 @@ package edutrack.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import edutrack.commons.util.ToStringBuilder;
 
@@ -11,6 +13,16 @@ import edutrack.commons.util.ToStringBuilder;
  */
 public class CommandResult {
 
+    /**
+     * What a command asks to be exported to a file.
+     */
+    public enum ExportContent {
+        /** The whole address book, as JSON. */
+        ADDRESS_BOOK,
+        /** The statistics shown by the {@code stats} command, as a CSV or JSON report. */
+        STATISTICS
+    }
+
     private final String feedbackToUser;
 
     /** Help information should be shown to the user. */
@@ -22,14 +34,56 @@ public class CommandResult {
     /** The statistics should be shown to the user. */
     private final boolean showStats;
 
+    /** The metrics of the commands executed so far should be shown to the user, in place of the feedback. */
+    private final boolean showMetrics;
+
+    /** The {@link #exportContent} should be exported to this file, or null if nothing should be exported. */
+    private final Path exportFilePath;
+
+    /** What should be exported to {@link #exportFilePath}, or null if nothing should be exported. */
+    private final ExportContent exportContent;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
-    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showStats) {
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showStats,
+            boolean showMetrics) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.showStats = showStats;
+        this.showMetrics = showMetrics;
+        this.exportFilePath = null;
+        this.exportContent = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, which does not show the command metrics.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showStats) {
+        this(feedbackToUser, showHelp, exit, showStats, false);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that asks for
+     * {@code exportContent} to be exported to {@code exportFilePath}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Path exportFilePath, ExportContent exportContent) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showStats = false;
+        this.showMetrics = false;
+        this.exportFilePath = requireNonNull(exportFilePath);
+        this.exportContent = requireNonNull(exportContent);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that asks for the address book
+     * to be exported to {@code exportFilePath}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, Path exportFilePath) {
+        this(feedbackToUser, exportFilePath, ExportContent.ADDRESS_BOOK);
     }
 
     /**
@@ -56,6 +110,21 @@ public class CommandResult {
         return showStats;
     }
 
+    public boolean isShowMetrics() {
+        return showMetrics;
+    }
+
+    public Optional<Path> getExportFilePath() {
+        return Optional.ofNullable(exportFilePath);
+    }
+
+    /**
+     * Returns what should be exported to {@link #getExportFilePath()}, or null if nothing should be exported.
+     */
+    public ExportContent getExportContent() {
+        return exportContent;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +140,15 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && showStats == otherCommandResult.showStats;
+                && showStats == otherCommandResult.showStats
+                && showMetrics == otherCommandResult.showMetrics
+                && Objects.equals(exportFilePath, otherCommandResult.exportFilePath)
+                && exportContent == otherCommandResult.exportContent;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showStats);
+        return Objects.hash(feedbackToUser, showHelp, exit, showStats, showMetrics, exportFilePath, exportContent);
     }
 
     @Override
@@ -86,6 +158,9 @@ public class CommandResult {
                 .add("showHelp", showHelp)
                 .add("exit", exit)
                 .add("showStats", showStats)
+                .add("showMetrics", showMetrics)
+                .add("exportFilePath", exportFilePath)
+                .add("exportContent", exportContent)
                 .toString();
     }
 
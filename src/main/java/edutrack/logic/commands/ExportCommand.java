@@ -0,0 +1,61 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.Model;
+
+/**
+ * Exports the address book to a JSON file, whatever format the data file is stored in.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all data to a JSON file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/export.json";
+
+    public static final String MESSAGE_SUCCESS = "Exported data to %1$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export the address book to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the file is written by the logic component, which has access to the storage and refuses the data file
+        return new CommandResult(String.format(MESSAGE_SUCCESS, filePath), filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
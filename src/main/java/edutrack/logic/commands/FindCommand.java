@@ -2,16 +2,21 @@ package edutrack.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import edutrack.commons.util.ToStringBuilder;
 import edutrack.logic.Messages;
 import edutrack.model.Model;
 import edutrack.model.person.Person;
+import edutrack.model.person.RankedPersonPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book who match the given predicate, e.g. whose name contains any of the
+ * argument keywords. Keyword matching is case insensitive.
+ * Approximate matches are listed from the closest match onwards.
  */
 public class FindCommand extends Command {
 
@@ -19,7 +24,7 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_NAME_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: n/ KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: n/ KEYWORD[*] [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " n/alice bob charlie";
 
     public static final String MESSAGE_GROUP_USAGE = COMMAND_WORD + ": Finds all persons who are in the specified "
@@ -27,14 +32,25 @@ public class FindCommand extends Command {
             + "Parameters: g/ GROUP_NAME\n"
             + "Example: " + COMMAND_WORD + " g/CS2103T";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds persons by name or group membership.\n"
-            + "Use exactly one of these formats:\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds persons by name, note, group or tag.\n"
+            + "Give any of these parameters, each at most once; persons must match all of them:\n"
             + "1. Find by name: " + COMMAND_WORD + " n/KEYWORD [MORE_KEYWORDS]... "
-            + "- Finds persons whose names contain any keyword\n"
-            + "2. Find by group: " + COMMAND_WORD + " g/GROUP_NAME - Finds persons in the specified group\n"
+            + "- Finds persons whose names contain any keyword; a keyword ending with * matches the start of a word\n"
+            + "2. Find by similar name: " + COMMAND_WORD + " ~n/KEYWORD [MORE_KEYWORDS]... "
+            + "- Finds persons whose names are a typo or two away from any keyword, closest first\n"
+            + "3. Find by note: " + COMMAND_WORD + " no/KEYWORD|\"PHRASE\" [MORE_KEYWORDS|OR]... "
+            + "- Finds persons whose notes contain every keyword and phrase of any side of OR\n"
+            + "4. Find by group: " + COMMAND_WORD + " g/GROUP_NAME [MORE_GROUPS]... "
+            + "- Finds persons in any of the specified groups\n"
+            + "5. Find by tag: " + COMMAND_WORD + " t/TAG - Finds persons with the specified tag\n"
             + "Examples:\n"
             + "  " + COMMAND_WORD + " n/alice bob - Finds persons with 'alice' or 'bob' in their names\n"
-            + "  " + COMMAND_WORD + " g/CS2103T - Finds persons in group 'CS2103T'";
+            + "  " + COMMAND_WORD + " n/ali* - Finds persons with a word starting with 'ali' in their names\n"
+            + "  " + COMMAND_WORD + " ~n/alcie - Finds persons with 'alice' or words like 'alcie' in their name\n"
+            + "  " + COMMAND_WORD + " no/\"missed deadline\" OR absent - Finds persons whose notes mention either\n"
+            + "  " + COMMAND_WORD + " g/CS2103T - Finds persons in group 'CS2103T'\n"
+            + "  " + COMMAND_WORD + " n/alice g/CS2103T t/weak - Finds persons named 'alice' in group 'CS2103T' "
+            + "with tag 'weak'";
 
     private final Predicate<Person> predicate;
 
@@ -45,11 +61,24 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate, getRanking());
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the order that lists the closest matches first, or null to keep the order of the address book if the
+     * predicate does not rank its matches. Each person is only ranked once.
+     */
+    private Comparator<Person> getRanking() {
+        if (!(predicate instanceof RankedPersonPredicate)) {
+            return null;
+        }
+        RankedPersonPredicate rankedPredicate = (RankedPersonPredicate) predicate;
+        Map<Person, Integer> rankByPerson = new IdentityHashMap<>();
+        return Comparator.comparingInt(person -> rankByPerson.computeIfAbsent(person, rankedPredicate::rank));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -53,29 +53,26 @@ public class GroupDeleteCommand extends Command {
         // Get the central group reference
         Group centralGroup = model.getGroup(toDelete);
 
-        // Remove group from all persons
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int affectedPersonCount = 0;
-
-        for (Person person : allPersons) {
-            if (person.getGroups().contains(centralGroup)) {
-                // Create new person without this group
-                Set<Group> updatedGroups = new HashSet<>(person.getGroups());
-                updatedGroups.remove(centralGroup);
-
-                Person updatedPerson = new Person(
-                        person.getName(),
-                        person.getPhone(),
-                        person.getEmail(),
-                        person.getAddress(),
-                        person.getTags(),
-                        updatedGroups
-                );
-
-                model.setPerson(person, updatedPerson);
-                affectedPersonCount++;
-            }
+        // Remove group from all persons that belong to it
+        List<Person> groupMembers = model.getPersonsInGroup(centralGroup);
+
+        for (Person person : groupMembers) {
+            // Create new person without this group
+            Set<Group> updatedGroups = new HashSet<>(person.getGroups());
+            updatedGroups.remove(centralGroup);
+
+            Person updatedPerson = new Person(
+                    person.getName(),
+                    person.getPhone(),
+                    person.getEmail(),
+                    person.getAddress(),
+                    person.getTags(),
+                    updatedGroups
+            );
+
+            model.setPerson(person, updatedPerson);
         }
+        int affectedPersonCount = groupMembers.size();
 
         // Delete the group from the model
         model.deleteGroup(centralGroup);
@@ -0,0 +1,22 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import edutrack.model.Model;
+
+/**
+ * Shows how long each kind of command has taken and how much memory it used since the app started.
+ * The metrics are kept by the logic that executes the commands, which shows them in place of the feedback.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_SUCCESS = "Showing command metrics.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(MESSAGE_SUCCESS, false, false, false, true);
+    }
+}
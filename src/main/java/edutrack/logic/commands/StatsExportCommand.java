@@ -0,0 +1,82 @@
+package edutrack.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.logic.commands.CommandResult.ExportContent;
+import edutrack.model.Model;
+
+/**
+ * Exports the statistics shown by the {@code stats} command to a CSV or JSON file, chosen by the file extension.
+ * Like {@link ExportCommand}, the file is written by the logic component through the storage, which also refuses to
+ * write over the data file.
+ */
+public class StatsExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats/export";
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_EXTENSION = ".json";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the student statistics to a CSV or JSON "
+            + "file, depending on whether its name ends with " + CSV_EXTENSION + " or " + JSON_EXTENSION + ".\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/stats.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported statistics of %1$d students to %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates a StatsExportCommand to export the statistics to {@code filePath}, whose name must end with one of
+     * the supported extensions.
+     */
+    public StatsExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        assert isSupportedFile(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the statistics can be exported to {@code filePath}, based on its extension.
+     */
+    public static boolean isSupportedFile(Path filePath) {
+        return hasExtension(filePath, CSV_EXTENSION) || hasExtension(filePath, JSON_EXTENSION);
+    }
+
+    private static boolean hasExtension(Path filePath, String extension) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(extension);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String feedback = String.format(MESSAGE_SUCCESS, model.getStatsModel().getPersonCount(), filePath);
+        return new CommandResult(feedback, filePath, ExportContent.STATISTICS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsExportCommand)) {
+            return false;
+        }
+
+        StatsExportCommand otherStatsExportCommand = (StatsExportCommand) other;
+        return filePath.equals(otherStatsExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
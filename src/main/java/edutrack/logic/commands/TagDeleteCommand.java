@@ -42,29 +42,26 @@ public class TagDeleteCommand extends Command {
             throw new CommandException(MESSAGE_TAG_NOT_FOUND);
         }
 
-        // Remove tag from all persons
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int affectedPersonCount = 0;
-
-        for (Person person : allPersons) {
-            if (person.getTags().contains(toDelete)) {
-                // Create new person without this tag
-                Set<Tag> updatedTags = new HashSet<>(person.getTags());
-                updatedTags.remove(toDelete);
-
-                Person updatedPerson = new Person(
-                        person.getName(),
-                        person.getPhone(),
-                        person.getEmail(),
-                        person.getAddress(),
-                        updatedTags,
-                        person.getGroups()
-                );
-
-                model.setPerson(person, updatedPerson);
-                affectedPersonCount++;
-            }
+        // Remove tag from all persons that have it
+        List<Person> taggedPersons = model.getPersonsWithTag(toDelete);
+
+        for (Person person : taggedPersons) {
+            // Create new person without this tag
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            updatedTags.remove(toDelete);
+
+            Person updatedPerson = new Person(
+                    person.getName(),
+                    person.getPhone(),
+                    person.getEmail(),
+                    person.getAddress(),
+                    updatedTags,
+                    person.getGroups()
+            );
+
+            model.setPerson(person, updatedPerson);
         }
+        int affectedPersonCount = taggedPersons.size();
 
         // Delete the tag from the model
         model.deleteTag(toDelete);
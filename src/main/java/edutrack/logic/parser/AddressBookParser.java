@@ -14,6 +14,7 @@ import edutrack.logic.commands.Command;
 import edutrack.logic.commands.DeleteCommand;
 import edutrack.logic.commands.EditCommand;
 import edutrack.logic.commands.ExitCommand;
+import edutrack.logic.commands.ExportCommand;
 import edutrack.logic.commands.FindCommand;
 import edutrack.logic.commands.FindTagCommand;
 import edutrack.logic.commands.GroupAssignCommand;
@@ -23,10 +24,12 @@ import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.GroupUnassignCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.MetricsCommand;
 import edutrack.logic.commands.NoteCreateCommand;
 import edutrack.logic.commands.NoteDeleteCommand;
 import edutrack.logic.commands.SortCommand;
 import edutrack.logic.commands.StatsCommand;
+import edutrack.logic.commands.StatsExportCommand;
 import edutrack.logic.commands.TagAssignCommand;
 import edutrack.logic.commands.TagCreateCommand;
 import edutrack.logic.commands.TagDeleteCommand;
@@ -117,6 +120,12 @@ public class AddressBookParser {
         case NoteDeleteCommand.COMMAND_WORD:
             return new NoteDeleteCommandParser().parse(arguments);
 
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
+        case StatsExportCommand.COMMAND_WORD:
+            return new StatsExportCommandParser().parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
         case ListCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_WORD:
@@ -124,6 +133,7 @@ public class AddressBookParser {
         case GroupListCommand.COMMAND_WORD:
         case TagListCommand.COMMAND_WORD:
         case StatsCommand.COMMAND_WORD:
+        case MetricsCommand.COMMAND_WORD:
             return new SingularCommandParser().parse(userInput);
 
         default:
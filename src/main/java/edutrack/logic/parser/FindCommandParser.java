@@ -3,23 +3,43 @@ package edutrack.logic.parser;
 import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
 import static edutrack.logic.parser.CliSyntax.PREFIX_NAME;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NOTE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_SIMILAR_NAME;
+import static edutrack.logic.parser.CliSyntax.PREFIX_TAG;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import edutrack.logic.commands.FindCommand;
 import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.person.GroupNameContainsKeywordsPredicate;
 import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.NameIsSimilarToKeywordsPredicate;
+import edutrack.model.person.NameStartsWithKeywordsPredicate;
+import edutrack.model.person.Note;
+import edutrack.model.person.NoteMatchesQueryPredicate;
+import edutrack.model.person.Person;
+import edutrack.model.person.PersonHasTagPredicate;
+import edutrack.model.person.PersonMatchesAllPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
-    static final String MESSAGE_SINGLE_PARAMETER_ONLY =
-            "Only one parameter block is allowed. Use either n/… or g/… (not both, not repeated).\n\n"
+    static final String NOTE_QUERY_OR = "OR";
+
+    static final String MESSAGE_UNCLOSED_PHRASE = "A phrase in the note query is missing its closing quote (\").\n\n"
             + FindCommand.MESSAGE_USAGE;
+    static final String MESSAGE_EMPTY_ALTERNATIVE = "Each side of " + NOTE_QUERY_OR + " in the note query needs a "
+            + "keyword or phrase with at least one letter or digit.\n\n" + FindCommand.MESSAGE_USAGE;
+
+    private static final String NOTE_QUERY_AND = "AND";
+    private static final char PHRASE_QUOTE = '"';
 
     @Override
     public FindCommand parse(String args) throws ParseException {
@@ -28,42 +48,132 @@ public class FindCommandParser implements Parser<FindCommand> {
         // Ensure a leading space so ArgumentTokenizer recognises the first prefix
         final String paddedArgs = args.startsWith(" ") ? args : " " + args;
 
-        final ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(paddedArgs, PREFIX_NAME, PREFIX_GROUP);
+        final ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(paddedArgs,
+                PREFIX_NAME, PREFIX_SIMILAR_NAME, PREFIX_NOTE, PREFIX_GROUP, PREFIX_TAG);
 
         final String preamble = argMultimap.getPreamble().trim();
         if (paddedArgs.trim().isEmpty() || !preamble.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_SIMILAR_NAME, PREFIX_NOTE, PREFIX_GROUP,
+                PREFIX_TAG);
 
-        final var names = argMultimap.getAllValues(PREFIX_NAME);
-        final var groups = argMultimap.getAllValues(PREFIX_GROUP);
-        final boolean hasName = !names.isEmpty();
-        final boolean hasGroup = !groups.isEmpty();
+        // every parameter given is a clause that the persons found must all match
+        final List<Predicate<Person>> clauses = new ArrayList<>();
+        final Optional<String> names = argMultimap.getValue(PREFIX_NAME);
+        if (names.isPresent()) {
+            clauses.add(parseNameClause(names.get()));
+        }
+        final Optional<String> similarNames = argMultimap.getValue(PREFIX_SIMILAR_NAME);
+        if (similarNames.isPresent()) {
+            clauses.add(new NameIsSimilarToKeywordsPredicate(parseKeywords(similarNames.get())));
+        }
+        final Optional<String> notes = argMultimap.getValue(PREFIX_NOTE);
+        if (notes.isPresent()) {
+            clauses.add(new NoteMatchesQueryPredicate(parseNoteQuery(notes.get())));
+        }
+        final Optional<String> groups = argMultimap.getValue(PREFIX_GROUP);
+        if (groups.isPresent()) {
+            clauses.add(new GroupNameContainsKeywordsPredicate(parseKeywords(groups.get())));
+        }
+        final Optional<String> tag = argMultimap.getValue(PREFIX_TAG);
+        if (tag.isPresent()) {
+            clauses.add(new PersonHasTagPredicate(ParserUtil.parseTag(tag.get())));
+        }
+
+        if (clauses.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(clauses.size() == 1 ? clauses.get(0) : new PersonMatchesAllPredicate(clauses));
+    }
 
-        if (hasName && hasGroup) {
-            throw new ParseException(MESSAGE_SINGLE_PARAMETER_ONLY);
+    /**
+     * Parses the keywords of a name search, which match the start of a name word if they end with a wildcard.
+     *
+     * @throws ParseException if there are no keywords, or a keyword is only a wildcard.
+     */
+    private static Predicate<Person> parseNameClause(String value) throws ParseException {
+        List<String> keywords = parseKeywords(value);
+        if (keywords.stream().noneMatch(keyword -> keyword.endsWith(NameStartsWithKeywordsPredicate.WILDCARD))) {
+            return new NameContainsKeywordsPredicate(keywords);
         }
-        if (!hasName && !hasGroup) {
+        if (keywords.contains(NameStartsWithKeywordsPredicate.WILDCARD)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        if (names.size() > 1 || groups.size() > 1) {
-            throw new ParseException(MESSAGE_SINGLE_PARAMETER_ONLY);
+        return new NameStartsWithKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Parses a note query into its alternatives, which are separated by {@value #NOTE_QUERY_OR}.
+     * Each alternative is a list of keywords and {@code "quoted phrases"} that must all be in the note;
+     * {@value #NOTE_QUERY_AND} may be written between them but is not needed.
+     *
+     * @throws ParseException if the query is empty, an alternative is empty or a phrase is not closed.
+     */
+    static List<List<String>> parseNoteQuery(String query) throws ParseException {
+        if (query.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        if (hasName) {
-            String keywords = names.get(0).trim();
-            if (keywords.isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        List<List<String>> alternatives = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            if (Character.isWhitespace(query.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int termEnd;
+            String term;
+            if (query.charAt(i) == PHRASE_QUOTE) {
+                termEnd = query.indexOf(PHRASE_QUOTE, i + 1);
+                if (termEnd < 0) {
+                    throw new ParseException(MESSAGE_UNCLOSED_PHRASE);
+                }
+                term = query.substring(i + 1, termEnd).trim();
+                termEnd++;
+            } else {
+                termEnd = i;
+                while (termEnd < query.length() && !Character.isWhitespace(query.charAt(termEnd))) {
+                    termEnd++;
+                }
+                term = query.substring(i, termEnd);
+            }
+            i = termEnd;
+
+            if (term.equals(NOTE_QUERY_OR)) {
+                alternatives.add(requireNonEmptyAlternative(terms));
+                terms = new ArrayList<>();
+            } else if (!term.equals(NOTE_QUERY_AND)) {
+                terms.add(term);
             }
-            return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+"))));
         }
+        alternatives.add(requireNonEmptyAlternative(terms));
+        return alternatives;
+    }
+
+    /**
+     * Returns {@code terms} if it is not empty and each of its terms has a word to search for.
+     */
+    private static List<String> requireNonEmptyAlternative(List<String> terms) throws ParseException {
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> Note.toFoldedWords(term).isEmpty())) {
+            throw new ParseException(MESSAGE_EMPTY_ALTERNATIVE);
+        }
+        return terms;
+    }
 
-        String groupKeywords = groups.get(0).trim();
-        if (groupKeywords.isEmpty()) {
+    /**
+     * Splits {@code value} into its whitespace-separated keywords.
+     *
+     * @throws ParseException if there are no keywords.
+     */
+    private static List<String> parseKeywords(String value) throws ParseException {
+        String keywords = value.trim();
+        if (keywords.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        return new FindCommand(new GroupNameContainsKeywordsPredicate(Arrays.asList(groupKeywords.split("\\s+"))));
+        return Arrays.asList(keywords.split("\\s+"));
     }
 
 }
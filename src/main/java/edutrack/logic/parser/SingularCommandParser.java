@@ -15,6 +15,7 @@ import edutrack.logic.commands.ExitCommand;
 import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.MetricsCommand;
 import edutrack.logic.commands.StatsCommand;
 import edutrack.logic.commands.TagListCommand;
 import edutrack.logic.parser.exceptions.ParseException;
@@ -89,6 +90,9 @@ public class SingularCommandParser implements Parser<Command> {
         case StatsCommand.COMMAND_WORD:
             return new StatsCommand();
 
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,30 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import edutrack.commons.util.FileUtil;
+import edutrack.logic.commands.StatsExportCommand;
+import edutrack.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsExportCommand object
+ */
+public class StatsExportCommandParser implements Parser<StatsExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsExportCommand
+     * and returns a StatsExportCommand object for execution.
+     * @throws ParseException if the user input is not a valid path to a CSV or JSON file
+     */
+    public StatsExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)
+                || !StatsExportCommand.isSupportedFile(Paths.get(trimmedArgs))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsExportCommand.MESSAGE_USAGE));
+        }
+
+        return new StatsExportCommand(Paths.get(trimmedArgs));
+    }
+}
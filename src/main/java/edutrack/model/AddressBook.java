@@ -1,9 +1,14 @@
 package edutrack.model;
 
+import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import edutrack.commons.util.StringUtil;
 import edutrack.commons.util.ToStringBuilder;
 import edutrack.model.group.Group;
 import edutrack.model.group.UniqueGroupList;
@@ -16,12 +21,21 @@ import javafx.collections.ObservableList;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * The modification count changes before the persons list does, so that listeners of the list can tell whether
+ * results computed from an earlier state of the address book are still valid.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueTagList tags;
     private final UniquePersonList persons;
     private final UniqueGroupList groups;
+    private final MembershipIndex<Tag> tagMembers;
+    private final MembershipIndex<Group> groupMembers;
+    private final MembershipIndex<String> nameWordMembers;
+    private final MembershipIndex<String> noteWordMembers;
+    private final NameTrigramIndex nameTrigrams;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -34,6 +48,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         tags = new UniqueTagList();
         persons = new UniquePersonList();
         groups = new UniqueGroupList();
+        tagMembers = new MembershipIndex<>(Person::getTags);
+        groupMembers = new MembershipIndex<>(Person::getGroups);
+        nameWordMembers = new MembershipIndex<>(person -> person.getName().getFoldedWords());
+        noteWordMembers = new MembershipIndex<>(person -> new HashSet<>(person.getNote().getFoldedWords()));
+        nameTrigrams = new NameTrigramIndex();
     }
 
     public AddressBook() {}
@@ -53,7 +72,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        modificationCount++;
         this.persons.setPersons(persons);
+        tagMembers.setAll(this.persons);
+        groupMembers.setAll(this.persons);
+        nameWordMembers.setAll(this.persons);
+        noteWordMembers.setAll(this.persons);
+        nameTrigrams.setAll(this.persons);
     }
 
     /**
@@ -62,6 +87,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        modificationCount++;
     }
 
     /**
@@ -70,6 +96,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTags(List<Tag> tags) {
         this.tags.setTags(tags);
+        modificationCount++;
     }
 
     /**
@@ -98,7 +125,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        modificationCount++;
         persons.add(p);
+        tagMembers.add(p);
+        groupMembers.add(p);
+        nameWordMembers.add(p);
+        noteWordMembers.add(p);
+        nameTrigrams.add(p);
         // Add any groups that the person belongs to into the global group list
         p.getGroups().forEach(group -> {
             if (!groups.contains(group)) {
@@ -115,7 +148,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        modificationCount++;
         persons.setPerson(target, editedPerson);
+        tagMembers.remove(target);
+        tagMembers.add(editedPerson);
+        groupMembers.remove(target);
+        groupMembers.add(editedPerson);
+        nameWordMembers.remove(target);
+        nameWordMembers.add(editedPerson);
+        noteWordMembers.remove(target);
+        noteWordMembers.add(editedPerson);
+        nameTrigrams.remove(target);
+        nameTrigrams.add(editedPerson);
     }
 
     /**
@@ -123,7 +167,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        modificationCount++;
         persons.remove(key);
+        tagMembers.remove(key);
+        groupMembers.remove(key);
+        nameWordMembers.remove(key);
+        noteWordMembers.remove(key);
+        nameTrigrams.remove(key);
     }
 
     /**
@@ -133,6 +183,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeGroup(Group group) {
         requireNonNull(group);
         groups.remove(group);
+        modificationCount++;
     }
 
     /**
@@ -151,6 +202,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void addGroup(Group group) {
         groups.add(group);
+        modificationCount++;
     }
 
     /**
@@ -180,6 +232,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTag(Tag tag) {
         tags.add(tag);
+        modificationCount++;
     }
 
     /**
@@ -197,15 +250,95 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deleteTag(Tag key) {
         tags.remove(key);
+        modificationCount++;
     }
 
     /**
      * Sorts the internal list of persons by name alphabetically.
      */
     public void sortPersonList() {
+        modificationCount++;
         persons.sortByName();
     }
 
+    /**
+     * Returns a counter that changes whenever the data in this address book is modified.
+     * Callers can compare two readings to tell whether anything changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    //// membership queries
+
+    @Override
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagMembers.get(tag);
+    }
+
+    @Override
+    public List<Person> getPersonsInGroup(Group group) {
+        requireNonNull(group);
+        return groupMembers.get(group);
+    }
+
+    @Override
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameWordMembers.get(StringUtil.foldCase(word));
+    }
+
+    @Override
+    public List<Person> getPersonsWithNoteWord(String word) {
+        requireNonNull(word);
+        return noteWordMembers.get(StringUtil.foldCase(word));
+    }
+
+    @Override
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagMembers.count(tag);
+    }
+
+    @Override
+    public int countPersonsInGroup(Group group) {
+        requireNonNull(group);
+        return groupMembers.count(group);
+    }
+
+    @Override
+    public int countPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return nameWordMembers.count(StringUtil.foldCase(word));
+    }
+
+    @Override
+    public int countPersonsWithNoteWord(String word) {
+        requireNonNull(word);
+        return noteWordMembers.count(StringUtil.foldCase(word));
+    }
+
+    @Override
+    public Set<String> getNameWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        checkArgument(!prefix.isEmpty(), "Prefix cannot be empty");
+        return nameTrigrams.getWordsStartingWith(StringUtil.foldCase(prefix));
+    }
+
+    @Override
+    public int estimatePersonsWithNameWordStartingWith(String prefix) {
+        requireNonNull(prefix);
+        checkArgument(!prefix.isEmpty(), "Prefix cannot be empty");
+        return nameTrigrams.estimatePersonsWithWordStartingWith(StringUtil.foldCase(prefix));
+    }
+
+    @Override
+    public Map<String, Integer> getNameWordsNear(String word, int maxDistance) {
+        requireNonNull(word);
+        return nameTrigrams.getWordsNear(StringUtil.foldCase(word), maxDistance);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,106 @@
+package edutrack.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import edutrack.model.person.Person;
+
+/**
+ * A reverse index from a membership key (e.g. a {@code Tag} or {@code Group}) to the persons that carry it.
+ * The index does not observe the persons list by itself; its owner must report every person that is added or removed.
+ *
+ * After {@link #setAll(Iterable)}, the index is only built on the next query, so that copies of an address book that
+ * are never queried (e.g. the ones written to storage) do not pay for it.
+ *
+ * @param <K> the type of membership key, compared using its {@code equals} and {@code hashCode}.
+ */
+class MembershipIndex<K> {
+
+    private final Map<K, Set<Person>> membersByKey = new HashMap<>();
+    private final Function<Person, Set<K>> keysOf;
+    /** The persons to build the index from on the next query, or null if the index is up to date. */
+    private Iterable<Person> unindexedPersons;
+
+    /**
+     * Creates an empty index that reads the keys of a person using {@code keysOf}.
+     */
+    MembershipIndex(Function<Person, Set<K>> keysOf) {
+        this.keysOf = requireNonNull(keysOf);
+    }
+
+    /**
+     * Records {@code person} as a member of each of its keys.
+     */
+    void add(Person person) {
+        if (unindexedPersons != null) {
+            return;
+        }
+        for (K key : keysOf.apply(person)) {
+            membersByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of its keys.
+     */
+    void remove(Person person) {
+        if (unindexedPersons != null) {
+            return;
+        }
+        for (K key : keysOf.apply(person)) {
+            Set<Person> members = membersByKey.get(key);
+            if (members == null) {
+                continue;
+            }
+            members.remove(person);
+            if (members.isEmpty()) {
+                membersByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the memberships of {@code persons}.
+     * The index is built lazily, so {@code persons} must be a live view of the persons of the owner, which reflects
+     * the persons added or removed until the next query.
+     */
+    void setAll(Iterable<Person> persons) {
+        membersByKey.clear();
+        unindexedPersons = requireNonNull(persons);
+    }
+
+    /**
+     * Returns a snapshot of the persons that carry {@code key}, in the order they were indexed.
+     */
+    List<Person> get(K key) {
+        requireNonNull(key);
+        buildIfNeeded();
+        Set<Person> members = membersByKey.get(key);
+        return members == null ? Collections.emptyList() : List.copyOf(members);
+    }
+
+    /**
+     * Returns the number of persons that carry {@code key}, without copying them.
+     */
+    int count(K key) {
+        requireNonNull(key);
+        buildIfNeeded();
+        Set<Person> members = membersByKey.get(key);
+        return members == null ? 0 : members.size();
+    }
+
+    private void buildIfNeeded() {
+        if (unindexedPersons != null) {
+            Iterable<Person> persons = unindexedPersons;
+            unindexedPersons = null;
+            persons.forEach(this::add);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package edutrack.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import edutrack.commons.core.GuiSettings;
@@ -56,6 +58,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes whenever the address book data is modified.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,6 +87,21 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns a snapshot of the persons that have {@code tag}, without scanning the whole address book.
+     */
+    List<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns a snapshot of the persons that belong to {@code group}, without scanning the whole address book.
+     */
+    List<Person> getPersonsInGroup(Group group);
+
+    /**
+     * Returns the statistics of the persons in the address book, which are kept up to date as it changes.
+     */
+    StatsModel getStatsModel();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -89,6 +111,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and lists the
+     * matching persons in the order given by {@code comparator}, or in the order of the address book if it is null.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /** Sorts the filtered person list by name in alphabetical order */
     void sortPersonList();
 
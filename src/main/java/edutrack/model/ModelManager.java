@@ -4,16 +4,23 @@ import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.commons.core.LogsCenter;
 import edutrack.model.group.Group;
+import edutrack.model.person.IndexedPersonPredicate;
 import edutrack.model.person.Person;
 import edutrack.model.tag.Tag;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,8 +31,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Tag> filteredTags;
     private final FilteredList<Group> filteredGroups;
+    private final StatsModel statsModel;
 
     private boolean pendingClearConfirmation = false;
 
@@ -42,7 +51,9 @@ public class ModelManager implements Model {
 
         filteredTags = new FilteredList<>(this.addressBook.getTagList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredGroups = new FilteredList<>(this.addressBook.getGroupList());
+        statsModel = new StatsModel(this.addressBook.getPersonList());
 
         updateFilteredTagList(PREDICATE_SHOW_ALL_TAGS);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
@@ -99,6 +110,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -136,6 +152,23 @@ public class ModelManager implements Model {
         updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
     }
 
+    @Override
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
+    @Override
+    public List<Person> getPersonsInGroup(Group group) {
+        requireNonNull(group);
+        return addressBook.getPersonsInGroup(group);
+    }
+
+    @Override
+    public StatsModel getStatsModel() {
+        return statsModel;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -144,13 +177,45 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        updateFilteredPersonList(predicate, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The matches of an {@code IndexedPersonPredicate} are looked up in the indexes of the address book, so that
+     * the persons that do not match are rejected without being tested.
+     */
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        // sorting only the matches is cheaper than re-sorting the whole list before filtering it
+        sortedPersons.setComparator(null);
+        setFilteredPersonsPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Sets the predicate of the filtered list, before it is sorted.
+     */
+    private void setFilteredPersonsPredicate(Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPersonPredicate)) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(((IndexedPersonPredicate) predicate).findMatches(addressBook));
+        long modificationCount = addressBook.getModificationCount();
+        // The matches are only known for the persons at this point; persons that are added or replaced later are
+        // tested, which the address book signals by changing its modification count before its persons list.
+        filteredPersons.setPredicate(person -> addressBook.getModificationCount() == modificationCount
+                ? matches.contains(person)
+                : predicate.test(person));
     }
 
     //=========== Groups =============================================================================
@@ -240,7 +305,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredGroups.equals(otherModelManager.filteredGroups)
                 && filteredTags.equals(otherModelManager.filteredTags);
     }
@@ -0,0 +1,203 @@
+package edutrack.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.model.person.Person;
+
+/**
+ * An index from the trigrams (runs of three characters) of the folded name words of the persons to those words, for
+ * finding the words that start with a prefix or that are within a small edit distance of a misspelt word, without
+ * comparing the query against every word.
+ *
+ * Each word is padded with two spaces on both sides, which never occur inside a word, so that even a one-letter word
+ * or prefix has a trigram and the trigrams at the start of a word differ from the ones in its middle. As with
+ * {@link MembershipIndex}, its owner must report every person that is added or removed, and the index is only built
+ * on the first query after {@link #setAll(Iterable)}.
+ */
+class NameTrigramIndex {
+
+    private static final String PADDING = "  ";
+    private static final int GRAM_LENGTH = 3;
+    /** Trigrams of a word that a single edit changes at most, as a swap of two letters touches four of them. */
+    private static final int MAX_GRAMS_CHANGED_PER_EDIT = 4;
+
+    /** The number of persons with each word, so that a word is only dropped once no name contains it. */
+    private final Map<String, Integer> personCountByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+    /** The number of persons with a name word that has each trigram, counting a person once per such word. */
+    private final Map<String, Integer> personCountByGram = new HashMap<>();
+    /** The persons to build the index from on the next query, or null if the index is up to date. */
+    private Iterable<Person> unindexedPersons;
+
+    /**
+     * Records the words of the name of {@code person}.
+     */
+    void add(Person person) {
+        if (unindexedPersons != null) {
+            return;
+        }
+        for (String word : person.getName().getFoldedWords()) {
+            boolean isNewWord = personCountByWord.merge(word, 1, Integer::sum) == 1;
+            for (String gram : getGrams(word, true)) {
+                personCountByGram.merge(gram, 1, Integer::sum);
+                if (isNewWord) {
+                    wordsByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the words of the name of {@code person} that no other person has.
+     */
+    void remove(Person person) {
+        if (unindexedPersons != null) {
+            return;
+        }
+        for (String word : person.getName().getFoldedWords()) {
+            Integer count = personCountByWord.get(word);
+            if (count == null) {
+                continue;
+            }
+            Set<String> grams = getGrams(word, true);
+            grams.forEach(gram -> personCountByGram.computeIfPresent(gram, (unused, gramCount) ->
+                    gramCount > 1 ? gramCount - 1 : null));
+            if (count > 1) {
+                personCountByWord.put(word, count - 1);
+                continue;
+            }
+            personCountByWord.remove(word);
+            for (String gram : grams) {
+                Set<String> words = wordsByGram.get(gram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with the name words of {@code persons}, which must be a live view of the
+     * persons of the owner, as in {@link MembershipIndex#setAll(Iterable)}.
+     */
+    void setAll(Iterable<Person> persons) {
+        personCountByWord.clear();
+        wordsByGram.clear();
+        personCountByGram.clear();
+        unindexedPersons = requireNonNull(persons);
+    }
+
+    /**
+     * Returns the indexed words that start with the non-empty, folded {@code prefix}.
+     */
+    Set<String> getWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        assert !prefix.isEmpty();
+        buildIfNeeded();
+
+        // a word starts with the prefix only if it has every trigram of the prefix, padded at its start only
+        Set<String> candidates = getWordsWithAllGrams(getGrams(prefix, false));
+        return candidates.stream()
+                .filter(word -> word.startsWith(prefix))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns an upper bound on the number of persons with a name word that starts with the non-empty, folded
+     * {@code prefix}: the number of persons with a word that has the rarest trigram of the prefix. This takes time
+     * in the length of the prefix only, without looking up any words.
+     */
+    int estimatePersonsWithWordStartingWith(String prefix) {
+        requireNonNull(prefix);
+        assert !prefix.isEmpty();
+        buildIfNeeded();
+
+        return getGrams(prefix, false).stream()
+                .mapToInt(gram -> personCountByGram.getOrDefault(gram, 0))
+                .min()
+                .orElse(0);
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of the folded {@code word}, as measured by
+     * {@link StringUtil#getEditDistance(String, String, int)}, mapped to their distance.
+     */
+    Map<String, Integer> getWordsNear(String word, int maxDistance) {
+        requireNonNull(word);
+        buildIfNeeded();
+
+        // Every edit changes at most a few trigrams, so a word within the distance still shares the rest of them
+        Set<String> grams = getGrams(word, true);
+        int minSharedGrams = grams.size() - MAX_GRAMS_CHANGED_PER_EDIT * maxDistance;
+        Collection<String> candidates;
+        if (minSharedGrams > 0) {
+            Map<String, Integer> sharedGramCountByWord = new HashMap<>();
+            for (String gram : grams) {
+                for (String candidate : wordsByGram.getOrDefault(gram, Collections.emptySet())) {
+                    sharedGramCountByWord.merge(candidate, 1, Integer::sum);
+                }
+            }
+            sharedGramCountByWord.values().removeIf(sharedGramCount -> sharedGramCount < minSharedGrams);
+            candidates = sharedGramCountByWord.keySet();
+        } else {
+            candidates = personCountByWord.keySet();
+        }
+
+        Map<String, Integer> distanceByWord = new LinkedHashMap<>();
+        for (String candidate : candidates) {
+            int distance = StringUtil.getEditDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                distanceByWord.put(candidate, distance);
+            }
+        }
+        return distanceByWord;
+    }
+
+    private void buildIfNeeded() {
+        if (unindexedPersons != null) {
+            Iterable<Person> persons = unindexedPersons;
+            unindexedPersons = null;
+            persons.forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns the words that have all of {@code grams}, intersecting the rarest trigrams first.
+     */
+    private Set<String> getWordsWithAllGrams(Set<String> grams) {
+        List<Set<String>> postings = grams.stream()
+                .map(gram -> wordsByGram.getOrDefault(gram, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        Set<String> words = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !words.isEmpty(); i++) {
+            words.retainAll(postings.get(i));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded at its start, and also at its end if {@code isPaddedAtEnd}.
+     */
+    private static Set<String> getGrams(String word, boolean isPaddedAtEnd) {
+        String padded = PADDING + word + (isPaddedAtEnd ? PADDING : "");
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
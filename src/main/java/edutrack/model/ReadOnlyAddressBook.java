@@ -1,5 +1,9 @@
 package edutrack.model;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
 import edutrack.model.tag.Tag;
@@ -28,4 +32,64 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Tag> getTagList();
 
+    /**
+     * Returns a snapshot of the persons that have {@code tag}.
+     */
+    List<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * Returns a snapshot of the persons that belong to {@code group}.
+     */
+    List<Person> getPersonsInGroup(Group group);
+
+    /**
+     * Returns a snapshot of the persons with a word in their name that equals {@code word}, ignoring case.
+     */
+    List<Person> getPersonsWithNameWord(String word);
+
+    /**
+     * Returns a snapshot of the persons with a word in their note that equals {@code word}, ignoring case.
+     * Words are split as by {@link edutrack.model.person.Note#toFoldedWords(String)}.
+     */
+    List<Person> getPersonsWithNoteWord(String word);
+
+    /**
+     * Returns the number of persons that have {@code tag}, without taking a snapshot of them.
+     */
+    int countPersonsWithTag(Tag tag);
+
+    /**
+     * Returns the number of persons that belong to {@code group}, without taking a snapshot of them.
+     */
+    int countPersonsInGroup(Group group);
+
+    /**
+     * Returns the number of persons found by {@link #getPersonsWithNameWord(String)}, without taking a snapshot.
+     */
+    int countPersonsWithNameWord(String word);
+
+    /**
+     * Returns the number of persons found by {@link #getPersonsWithNoteWord(String)}, without taking a snapshot.
+     */
+    int countPersonsWithNoteWord(String word);
+
+    /**
+     * Returns the words in the names of the persons that start with the non-empty {@code prefix}, ignoring case.
+     * The words are case-folded as by {@link edutrack.commons.util.StringUtil#foldCase(String)}.
+     */
+    Set<String> getNameWordsStartingWith(String prefix);
+
+    /**
+     * Returns an upper bound on the number of persons with a word in their name that starts with the non-empty
+     * {@code prefix}, ignoring case, without looking up the words as {@link #getNameWordsStartingWith(String)} does.
+     */
+    int estimatePersonsWithNameWordStartingWith(String prefix);
+
+    /**
+     * Returns the words in the names of the persons that are within {@code maxDistance} edits of {@code word},
+     * ignoring case, mapped to their edit distance.
+     * The words are case-folded as by {@link edutrack.commons.util.StringUtil#foldCase(String)}.
+     */
+    Map<String, Integer> getNameWordsNear(String word, int maxDistance);
+
 }
@@ -3,6 +3,7 @@ package edutrack.model;
 import java.nio.file.Path;
 
 import edutrack.commons.core.GuiSettings;
+import edutrack.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getAddressBookStorageFormat();
+
 }
@@ -0,0 +1,167 @@
+package edutrack.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the statistics shown by the {@code stats} command up to date as persons are added, edited and removed: the
+ * number of persons and how many of them carry each tag, overall and within each group.
+ *
+ * The counts are updated from the change events of the observed persons list, so reading them costs as much as the
+ * output rather than a pass over every person. Tags are counted by their name in lower case, and are kept in
+ * alphabetical order.
+ */
+public class StatsModel {
+
+    private final TagHistogram overall;
+    private final Map<Group, TagHistogram> histogramsByGroup;
+
+    /**
+     * Creates a {@code StatsModel} that counts the persons in {@code persons}, now and as the list changes.
+     */
+    public StatsModel(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        overall = new TagHistogram();
+        histogramsByGroup = new HashMap<>();
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Creates a copy of {@code toCopy} that does not observe any list.
+     */
+    private StatsModel(StatsModel toCopy) {
+        overall = new TagHistogram(toCopy.overall);
+        histogramsByGroup = new HashMap<>();
+        toCopy.histogramsByGroup.forEach((group, histogram) -> histogramsByGroup.put(group,
+                new TagHistogram(histogram)));
+    }
+
+    /**
+     * Returns a copy of the current statistics that is never updated, so that it can be read on another thread
+     * while this one changes. Copying costs as much as reading every count once.
+     */
+    public StatsModel getSnapshot() {
+        return new StatsModel(this);
+    }
+
+    /**
+     * Returns the number of persons.
+     */
+    public int getPersonCount() {
+        return overall.personCount;
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the number of persons with each tag, by tag name in lower case.
+     */
+    public SortedMap<String, Integer> getTagCounts() {
+        return Collections.unmodifiableSortedMap(overall.countByTagName);
+    }
+
+    /**
+     * Returns the number of persons in {@code group}.
+     */
+    public int getPersonCountInGroup(Group group) {
+        requireNonNull(group);
+        TagHistogram histogram = histogramsByGroup.get(group);
+        return histogram == null ? 0 : histogram.personCount;
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the number of persons in {@code group} with each tag, by tag name in
+     * lower case.
+     */
+    public SortedMap<String, Integer> getTagCountsInGroup(Group group) {
+        requireNonNull(group);
+        TagHistogram histogram = histogramsByGroup.get(group);
+        return histogram == null
+                ? Collections.emptySortedMap()
+                : Collections.unmodifiableSortedMap(histogram.countByTagName);
+    }
+
+    /**
+     * Counts the persons removed from and added to the list. An edited person is replaced, so it is removed with its
+     * old tags and groups and added with its new ones; a sort only permutes the list and changes no count.
+     */
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        overall.add(person);
+        for (Group group : person.getGroups()) {
+            histogramsByGroup.computeIfAbsent(group, unused -> new TagHistogram()).add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        overall.remove(person);
+        for (Group group : person.getGroups()) {
+            TagHistogram histogram = histogramsByGroup.get(group);
+            if (histogram == null) {
+                continue;
+            }
+            histogram.remove(person);
+            if (histogram.personCount == 0) {
+                histogramsByGroup.remove(group);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personCount", overall.personCount)
+                .add("tagCounts", overall.countByTagName)
+                .toString();
+    }
+
+    /**
+     * The number of persons in a set of persons and how many of them carry each tag.
+     */
+    private static class TagHistogram {
+        private final SortedMap<String, Integer> countByTagName;
+        private int personCount;
+
+        TagHistogram() {
+            countByTagName = new TreeMap<>();
+        }
+
+        TagHistogram(TagHistogram toCopy) {
+            countByTagName = new TreeMap<>(toCopy.countByTagName);
+            personCount = toCopy.personCount;
+        }
+
+        void add(Person person) {
+            personCount++;
+            for (Tag tag : person.getTags()) {
+                countByTagName.merge(tag.tagName.toLowerCase(), 1, Integer::sum);
+            }
+        }
+
+        void remove(Person person) {
+            personCount--;
+            for (Tag tag : person.getTags()) {
+                // a count that drops to zero is removed, so only the tags in use are listed
+                String tagName = tag.tagName.toLowerCase();
+                countByTagName.computeIfPresent(tagName, (unused, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+}
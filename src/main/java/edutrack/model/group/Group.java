@@ -3,6 +3,8 @@ package edutrack.model.group;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import edutrack.commons.util.StringUtil;
+
 /**
  * Represents a Group in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidGroupName(String)}
@@ -32,7 +34,7 @@ public class Group {
      * Returns true if a given string is a valid group name.
      */
     public static boolean isValidGroupName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_GROUP_LENGTH;
+        return StringUtil.isValidLabelName(test, MAX_GROUP_LENGTH);
     }
 
     @Override
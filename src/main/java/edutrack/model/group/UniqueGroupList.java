@@ -2,7 +2,9 @@ package edutrack.model.group;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -10,21 +12,23 @@ import javafx.collections.ObservableList;
 /**
  * A list of groups that enforces uniqueness between its elements and does not allow nulls.
  * A group is considered unique by comparing using {@code Group#equals}.
+ * Each group is also registered in a case-insensitive map so that lookups are constant-time and always resolve to the
+ * single central {@code Group} instance held by this list.
  * Supports a minimal set of list operations.
- *
  */
 public class UniqueGroupList {
 
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Group, Group> registry = new LinkedHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return registry.containsKey(toCheck);
     }
 
     /**
@@ -37,6 +41,7 @@ public class UniqueGroupList {
         if (contains(toAdd)) {
             throw new IllegalArgumentException("This group already exists.");
         }
+        registry.put(toAdd, toAdd);
         internalList.add(toAdd);
     }
 
@@ -46,10 +51,11 @@ public class UniqueGroupList {
      */
     public Group get(Group toGet) {
         requireNonNull(toGet);
-        return internalList.stream()
-                .filter(toGet::equals)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Group does not exist."));
+        Group centralGroup = registry.get(toGet);
+        if (centralGroup == null) {
+            throw new IllegalArgumentException("Group does not exist.");
+        }
+        return centralGroup;
     }
 
     /**
@@ -58,15 +64,21 @@ public class UniqueGroupList {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!contains(toRemove)) {
+        Group centralGroup = registry.remove(toRemove);
+        if (centralGroup == null) {
             throw new IllegalArgumentException("Group does not exist.");
         }
-        internalList.removeIf(toRemove::equals);
+        internalList.remove(centralGroup);
     }
 
+    /**
+     * Replaces the contents of this list with {@code groups}.
+     */
     public void setGroups(List<Group> groups) {
         requireNonNull(groups);
-        internalList.setAll(groups);
+        registry.clear();
+        groups.forEach(group -> registry.putIfAbsent(group, group));
+        internalList.setAll(registry.values());
     }
 
     public ObservableList<Group> asUnmodifiableObservableList() {
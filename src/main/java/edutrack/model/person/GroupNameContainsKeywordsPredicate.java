@@ -1,31 +1,66 @@
 package edutrack.model.person;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import edutrack.commons.util.StringUtil;
 import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that the name of any of a {@code Person}'s groups matches any of the keywords given, ignoring case.
  */
-public class GroupNameContainsKeywordsPredicate implements Predicate<Person> {
+public class GroupNameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
     /**
-     * Constructs a {@code NameContainsKeywordsPredicate} with the specified keywords and matching mode.
+     * Constructs a {@code GroupNameContainsKeywordsPredicate} with the specified keywords.
      *
-     * @param keywords List of keywords to match.
+     * @param keywords List of group names to match.
      */
     public GroupNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Person person) {
+        // Group names cannot contain whitespace, so a whole-word match is a case-insensitive match on the full name
         return person.getGroups().stream()
-                .anyMatch(group -> keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(group.groupName, keyword)));
+                .anyMatch(group -> foldedKeywords.contains(StringUtil.foldCase(group.groupName)));
+    }
+
+    /**
+     * Returns the union of the members of each group named by a keyword, found through the group membership index.
+     */
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        getKeywordGroups().forEach(group -> matches.addAll(addressBook.getPersonsInGroup(group)));
+        return matches;
+    }
+
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return getKeywordGroups().mapToInt(addressBook::countPersonsInGroup).sum();
+    }
+
+    /**
+     * Returns the groups named by the keywords. Keywords that are not valid group names cannot name any group.
+     */
+    private Stream<Group> getKeywordGroups() {
+        return foldedKeywords.stream()
+                .filter(Group::isValidGroupName)
+                .map(Group::new);
     }
 
     @Override
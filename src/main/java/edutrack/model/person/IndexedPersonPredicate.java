@@ -0,0 +1,26 @@
+package edutrack.model.person;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * A {@code Predicate<Person>} whose matches can also be looked up in the indexes of an address book, which is much
+ * faster than testing every person in a large address book.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code addressBook} that this predicate accepts, without duplicates.
+     * They must be the same persons as those found by testing every person in {@code addressBook}.
+     */
+    Collection<Person> findMatches(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns an upper bound on the number of persons in {@code addressBook} that this predicate accepts.
+     * It is computed from the counts kept by the indexes, without collecting any persons, so that it is much cheaper
+     * than {@link #findMatches(ReadOnlyAddressBook)}.
+     */
+    int estimateMatchCount(ReadOnlyAddressBook addressBook);
+}
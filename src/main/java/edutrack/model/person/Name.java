@@ -3,6 +3,12 @@ package edutrack.model.person;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import edutrack.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,7 +26,13 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{M}\\p{N}][\\p{L}\\p{M}\\p{N} '\\-./]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final String ASCII_SYMBOLS = " '-./";
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
     public final String fullName;
+    /** The name with its case folded, which names are compared and hashed by. */
+    private final String foldedName;
 
     /**
      * Constructs a {@code Name}.
@@ -31,13 +43,34 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedName = StringUtil.foldCase(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Most names are plain ASCII, which can be checked without running the regex
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c >= 0x80) {
+                return VALIDATION_PATTERN.matcher(test).matches();
+            }
+            if (!StringUtil.isAsciiAlphanumeric(c) && (i == 0 || ASCII_SYMBOLS.indexOf(c) < 0)) {
+                return false;
+            }
+        }
+        return !test.isEmpty();
+    }
+
+    /**
+     * Returns the words of this name, with their case folded by {@link StringUtil#foldCase(String)}.
+     * Words are separated by whitespace, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    public Set<String> getFoldedWords() {
+        return Arrays.stream(WORD_SEPARATOR.split(fullName))
+                .map(StringUtil::foldCase)
+                .collect(Collectors.toSet());
     }
 
 
@@ -58,12 +91,13 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return foldedName.equals(otherName.foldedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // consistent with the case-insensitive equals
+        return foldedName.hashCode();
     }
 
 }
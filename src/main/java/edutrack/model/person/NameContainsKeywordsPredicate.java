@@ -1,15 +1,19 @@
 package edutrack.model.person;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import edutrack.commons.util.StringUtil;
 import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
 
     /**
@@ -27,6 +31,25 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns the union of the persons with each keyword as a word of their name, found through the name word index.
+     */
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(addressBook.getPersonsWithNameWord(keyword.trim()));
+        }
+        return matches;
+    }
+
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return keywords.stream()
+                .mapToInt(keyword -> addressBook.countPersonsWithNameWord(keyword.trim()))
+                .sum();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
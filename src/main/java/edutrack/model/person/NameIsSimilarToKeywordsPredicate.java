@@ -0,0 +1,120 @@
+package edutrack.model.person;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word within a few typing mistakes of any of the keywords given,
+ * ignoring case. Longer keywords allow more mistakes, as given by {@link #getMaxEditDistance(String)}.
+ * Persons whose name needs fewer corrections rank higher.
+ */
+public class NameIsSimilarToKeywordsPredicate implements IndexedPersonPredicate, RankedPersonPredicate {
+
+    /** Keywords up to this length must match exactly, as almost every short word is one edit from another. */
+    private static final int MAX_EXACT_KEYWORD_LENGTH = 2;
+    /** Keywords up to this length may be one edit away, and longer ones two. */
+    private static final int MAX_ONE_EDIT_KEYWORD_LENGTH = 7;
+
+    private final List<String> keywords;
+
+    /**
+     * Constructs a {@code NameIsSimilarToKeywordsPredicate} with the specified keywords.
+     *
+     * @param keywords List of non-empty keywords to match.
+     */
+    public NameIsSimilarToKeywordsPredicate(List<String> keywords) {
+        keywords.forEach(keyword -> checkArgument(!keyword.trim().isEmpty(), "Keywords cannot be empty"));
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of edits that a name word may be away from {@code keyword} to match it.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        int length = keyword.trim().length();
+        if (length <= MAX_EXACT_KEYWORD_LENGTH) {
+            return 0;
+        }
+        return length <= MAX_ONE_EDIT_KEYWORD_LENGTH ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return rank(person) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * This is the edit distance between the closest keyword and word of the name.
+     */
+    @Override
+    public int rank(Person person) {
+        int bestRank = Integer.MAX_VALUE;
+        Set<String> words = person.getName().getFoldedWords();
+        for (String keyword : keywords) {
+            String foldedKeyword = StringUtil.foldCase(keyword.trim());
+            int maxDistance = getMaxEditDistance(keyword);
+            for (String word : words) {
+                int distance = StringUtil.getEditDistance(foldedKeyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    bestRank = Math.min(bestRank, distance);
+                }
+            }
+        }
+        return bestRank;
+    }
+
+    /**
+     * Returns the union of the persons with a name word near each keyword, found through the name word indexes.
+     */
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            for (String word : addressBook.getNameWordsNear(keyword.trim(), getMaxEditDistance(keyword)).keySet()) {
+                matches.addAll(addressBook.getPersonsWithNameWord(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Finding the name words near a keyword is the costly part of {@link #findMatches(ReadOnlyAddressBook)}, so it is
+     * not done just for an estimate, and every person is counted instead. This plans the clause after those with a
+     * real estimate, which leaves it to test only the persons that they find.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameIsSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameIsSimilarToKeywordsPredicate otherPredicate = (NameIsSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,124 @@
+package edutrack.model.person;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import edutrack.commons.util.StringUtil;
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word that starts with any of the keywords ending with
+ * {@value #WILDCARD}, or that equals any of the other keywords, ignoring case.
+ * Persons whose matching word is closer in length to the keyword rank higher.
+ */
+public class NameStartsWithKeywordsPredicate implements IndexedPersonPredicate, RankedPersonPredicate {
+
+    public static final String WILDCARD = "*";
+
+    private final List<String> keywords;
+
+    /**
+     * Constructs a {@code NameStartsWithKeywordsPredicate} with the specified keywords.
+     *
+     * @param keywords List of keywords to match, each a non-empty word, optionally followed by {@value #WILDCARD}.
+     */
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        keywords.forEach(keyword -> checkArgument(!getStem(keyword).isEmpty(), "Keywords cannot be empty"));
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return rank(person) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * This is the number of letters that the best matching word of the name has beyond the keyword.
+     */
+    @Override
+    public int rank(Person person) {
+        int bestRank = Integer.MAX_VALUE;
+        Set<String> words = person.getName().getFoldedWords();
+        for (String keyword : keywords) {
+            String stem = StringUtil.foldCase(getStem(keyword));
+            for (String word : words) {
+                if (isPrefix(keyword) ? word.startsWith(stem) : word.equals(stem)) {
+                    bestRank = Math.min(bestRank, word.length() - stem.length());
+                }
+            }
+        }
+        return bestRank;
+    }
+
+    /**
+     * Returns the union of the persons with each matching name word, found through the name word indexes.
+     */
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            String stem = getStem(keyword);
+            if (!isPrefix(keyword)) {
+                matches.addAll(addressBook.getPersonsWithNameWord(stem));
+                continue;
+            }
+            for (String word : addressBook.getNameWordsStartingWith(stem)) {
+                matches.addAll(addressBook.getPersonsWithNameWord(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Prefix keywords are estimated from the counts of the name trigram index, so that the matching name words are
+     * only looked up by {@link #findMatches(ReadOnlyAddressBook)}.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return keywords.stream()
+                .mapToInt(keyword -> isPrefix(keyword)
+                        ? addressBook.estimatePersonsWithNameWordStartingWith(getStem(keyword))
+                        : addressBook.countPersonsWithNameWord(getStem(keyword)))
+                .sum();
+    }
+
+    private static boolean isPrefix(String keyword) {
+        return keyword.trim().endsWith(WILDCARD);
+    }
+
+    /**
+     * Returns {@code keyword} without surrounding whitespace and without its wildcard, if any.
+     */
+    private static String getStem(String keyword) {
+        String trimmed = keyword.trim();
+        return isPrefix(trimmed) ? trimmed.substring(0, trimmed.length() - WILDCARD.length()) : trimmed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        NameStartsWithKeywordsPredicate otherPredicate = (NameStartsWithKeywordsPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
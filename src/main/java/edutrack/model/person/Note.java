@@ -2,6 +2,12 @@ package edutrack.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import edutrack.commons.util.StringUtil;
+
 /**
  * Represents a tutor's note attached to a student.
  * Immutable; empty string is allowed to represent absence of a note.
@@ -16,6 +22,8 @@ public class Note {
      */
     public static final String VALIDATION_REGEX = "[^\\s\\p{Cntrl}][\\p{Print}\\p{Space}]*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -40,7 +48,36 @@ public class Note {
         if (test == null || test.isEmpty()) {
             return true;
         }
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the words of this note in order, with their case folded by {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        return toFoldedWords(value);
+    }
+
+    /**
+     * Returns the words of {@code text} in order, with their case folded by {@link StringUtil#foldCase(String)}.
+     * A word is a run of letters and digits, so punctuation and whitespace separate words and are dropped.
+     */
+    public static List<String> toFoldedWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            int wordStart = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.codePointAt(i))) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            if (i > wordStart) {
+                words.add(StringUtil.foldCase(text.substring(wordStart, i)));
+            } else {
+                i += Character.charCount(text.codePointAt(i));
+            }
+        }
+        return words;
     }
 
     @Override
@@ -0,0 +1,131 @@
+package edutrack.model.person;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Person}'s {@code Note} matches any of the alternatives of a query, where an alternative
+ * matches if every one of its terms is in the note. A term of several words is a phrase, whose words must be next
+ * to each other in the note and in the same order.
+ * Words are compared ignoring case and punctuation, as split by {@link Note#toFoldedWords(String)}.
+ */
+public class NoteMatchesQueryPredicate implements IndexedPersonPredicate {
+    private final List<List<String>> alternatives;
+    /** The words of each term of each alternative. */
+    private final List<List<List<String>>> alternativeTermWords;
+
+    /**
+     * Constructs a {@code NoteMatchesQueryPredicate} with the specified alternatives.
+     *
+     * @param alternatives Non-empty lists of terms, each of which has at least one word.
+     */
+    public NoteMatchesQueryPredicate(List<List<String>> alternatives) {
+        checkArgument(!alternatives.isEmpty(), "Query cannot be empty");
+        this.alternatives = alternatives;
+        this.alternativeTermWords = alternatives.stream()
+                .map(terms -> terms.stream().map(Note::toFoldedWords).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        for (List<List<String>> termWords : alternativeTermWords) {
+            checkArgument(!termWords.isEmpty(), "Alternatives cannot be empty");
+            termWords.forEach(words -> checkArgument(!words.isEmpty(), "Terms must have a word"));
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> noteWords = person.getNote().getFoldedWords();
+        return alternativeTermWords.stream()
+                .anyMatch(termWords -> termWords.stream().allMatch(words -> containsPhrase(noteWords, words)));
+    }
+
+    /**
+     * Returns the union of the persons matching each alternative. The persons of an alternative are the ones with
+     * all of its words in the note word index, starting from the rarest word, and are then checked for its phrases.
+     */
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<List<String>> termWords : alternativeTermWords) {
+            List<List<Person>> postings = termWords.stream()
+                    .flatMap(List::stream)
+                    .distinct()
+                    .map(addressBook::getPersonsWithNoteWord)
+                    .sorted(Comparator.comparingInt(List::size))
+                    .collect(Collectors.toList());
+            Set<Person> candidates = toIdentitySet(postings.get(0));
+            for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(toIdentitySet(postings.get(i)));
+            }
+
+            if (termWords.stream().allMatch(words -> words.size() == 1)) {
+                matches.addAll(candidates);
+                continue;
+            }
+            for (Person candidate : candidates) {
+                List<String> noteWords = candidate.getNote().getFoldedWords();
+                if (termWords.stream().allMatch(words -> containsPhrase(noteWords, words))) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * {@inheritDoc}
+     * An alternative matches at most as many persons as its rarest word.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return alternativeTermWords.stream()
+                .mapToInt(termWords -> termWords.stream()
+                        .flatMap(List::stream)
+                        .mapToInt(addressBook::countPersonsWithNoteWord)
+                        .min()
+                        .orElse(0))
+                .sum();
+    }
+
+    private static Set<Person> toIdentitySet(List<Person> persons) {
+        Set<Person> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(persons);
+        return set;
+    }
+
+    /**
+     * Returns true if {@code phrase} occurs in {@code words} as a run of consecutive words.
+     */
+    private static boolean containsPhrase(List<String> words, List<String> phrase) {
+        return Collections.indexOfSubList(words, phrase) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NoteMatchesQueryPredicate)) {
+            return false;
+        }
+
+        NoteMatchesQueryPredicate otherPredicate = (NoteMatchesQueryPredicate) other;
+        return alternatives.equals(otherPredicate.alternatives);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("alternatives", alternatives).toString();
+    }
+}
@@ -3,9 +3,12 @@ package edutrack.model.person;
 import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import edutrack.commons.util.ToStringBuilder;
 import edutrack.model.group.Group;
@@ -17,6 +20,9 @@ import edutrack.model.tag.Tag;
  */
 public class Person {
 
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final Comparator<Group> GROUP_NAME_ORDER = Comparator.comparing(group -> group.groupName);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,6 +34,11 @@ public class Person {
     private final Set<Group> groups = new HashSet<>();
     private final Note note;
 
+    // Views of the data fields for display, computed on first use. As they are immutable, a thread that reads a view
+    // before another thread's write is visible only computes an equal one again.
+    private List<Tag> sortedTags;
+    private List<Group> sortedGroups;
+
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Set<Group> groups) {
         this(name, phone, email, address, tags, groups, new Note(""));
     }
@@ -78,6 +89,32 @@ public class Person {
         return Collections.unmodifiableSet(groups);
     }
 
+    /**
+     * Returns the tags of this person sorted by name, as an immutable list.
+     * The list is computed once and shared by every caller, e.g. each card that shows this person.
+     */
+    public List<Tag> getSortedTags() {
+        List<Tag> result = sortedTags;
+        if (result == null) {
+            result = tags.stream().sorted(TAG_NAME_ORDER).collect(Collectors.toUnmodifiableList());
+            sortedTags = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the groups of this person sorted by name, as an immutable list.
+     * The list is computed once and shared by every caller, e.g. each card that shows this person.
+     */
+    public List<Group> getSortedGroups() {
+        List<Group> result = sortedGroups;
+        if (result == null) {
+            result = groups.stream().sorted(GROUP_NAME_ORDER).collect(Collectors.toUnmodifiableList());
+            sortedGroups = result;
+        }
+        return result;
+    }
+
     public Note getNote() {
         return note;
     }
@@ -2,15 +2,17 @@ package edutrack.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Objects;
-import java.util.function.Predicate;
 
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.tag.Tag;
 
 /**
  * Tests whether a {@code Person} has a given {@code Tag}.
  */
-public class PersonHasTagPredicate implements Predicate<Person> {
+public class PersonHasTagPredicate implements IndexedPersonPredicate {
 
     private final Tag targetTag;
 
@@ -27,7 +29,17 @@ public class PersonHasTagPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
-        return person.getTags().stream().anyMatch(targetTag::equals);
+        return person.getTags().contains(targetTag);
+    }
+
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonsWithTag(targetTag);
+    }
+
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return addressBook.countPersonsWithTag(targetTag);
     }
 
     @Override
@@ -46,4 +58,9 @@ public class PersonHasTagPredicate implements Predicate<Person> {
     public int hashCode() {
         return Objects.hashCode(targetTag);
     }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("targetTag", targetTag).toString();
+    }
 }
@@ -0,0 +1,127 @@
+package edutrack.model.person;
+
+import static edutrack.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.util.ToStringBuilder;
+import edutrack.model.ReadOnlyAddressBook;
+
+/**
+ * Tests that a {@code Person} matches all of the clauses given.
+ *
+ * To find the matches in an address book, the clause expected to match the fewest persons is looked up in the
+ * indexes of the address book, and only the persons it finds are tested against the other clauses, starting from
+ * the one expected to reject the most of them. A person's rank is the sum of its ranks in the ranked clauses.
+ */
+public class PersonMatchesAllPredicate implements IndexedPersonPredicate, RankedPersonPredicate {
+    private static final Logger logger = LogsCenter.getLogger(PersonMatchesAllPredicate.class);
+
+    private final List<Predicate<Person>> clauses;
+
+    /**
+     * Constructs a {@code PersonMatchesAllPredicate} with the specified clauses.
+     *
+     * @param clauses Non-empty list of the predicates that a person must all match.
+     */
+    public PersonMatchesAllPredicate(List<Predicate<Person>> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty(), "There must be at least one clause");
+        this.clauses = clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return clauses.stream().allMatch(clause -> clause.test(person));
+    }
+
+    @Override
+    public int rank(Person person) {
+        return clauses.stream()
+                .filter(clause -> clause instanceof RankedPersonPredicate)
+                .mapToInt(clause -> ((RankedPersonPredicate) clause).rank(person))
+                .sum();
+    }
+
+    @Override
+    public Collection<Person> findMatches(ReadOnlyAddressBook addressBook) {
+        List<Predicate<Person>> plan = getPlan(addressBook);
+        Predicate<Person> first = plan.get(0);
+        Collection<Person> candidates = first instanceof IndexedPersonPredicate
+                ? ((IndexedPersonPredicate) first).findMatches(addressBook)
+                : addressBook.getPersonList();
+        List<Predicate<Person>> checks = plan.subList(first instanceof IndexedPersonPredicate ? 1 : 0, plan.size());
+        return candidates.stream()
+                .filter(person -> checks.stream().allMatch(clause -> clause.test(person)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     * All the clauses must match, so there are at most as many matches as the most selective indexed clause finds.
+     */
+    @Override
+    public int estimateMatchCount(ReadOnlyAddressBook addressBook) {
+        return clauses.stream()
+                .filter(clause -> clause instanceof IndexedPersonPredicate)
+                .mapToInt(clause -> ((IndexedPersonPredicate) clause).estimateMatchCount(addressBook))
+                .min()
+                .orElse(addressBook.getPersonList().size());
+    }
+
+    /**
+     * Returns the clauses in the order they should be evaluated: the indexed clauses from the one with the fewest
+     * estimated matches to the one with the most, then the clauses that must test every person, in their given order.
+     */
+    List<Predicate<Person>> getPlan(ReadOnlyAddressBook addressBook) {
+        Map<Predicate<Person>, Integer> estimates = new IdentityHashMap<>();
+        List<Predicate<Person>> indexedClauses = new ArrayList<>();
+        List<Predicate<Person>> otherClauses = new ArrayList<>();
+        for (Predicate<Person> clause : clauses) {
+            if (clause instanceof IndexedPersonPredicate) {
+                estimates.put(clause, ((IndexedPersonPredicate) clause).estimateMatchCount(addressBook));
+                indexedClauses.add(clause);
+            } else {
+                otherClauses.add(clause);
+            }
+        }
+
+        indexedClauses.sort(Comparator.comparingInt(estimates::get));
+        List<Predicate<Person>> plan = new ArrayList<>(indexedClauses);
+        plan.addAll(otherClauses);
+        logger.fine(() -> "Planned find: " + plan.stream()
+                .map(clause -> clause + (estimates.containsKey(clause) ? " (~" + estimates.get(clause) + ")" : ""))
+                .collect(Collectors.joining(", then ")));
+        return plan;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesAllPredicate)) {
+            return false;
+        }
+
+        PersonMatchesAllPredicate otherPredicate = (PersonMatchesAllPredicate) other;
+        return clauses.equals(otherPredicate.clauses);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+}
@@ -12,6 +12,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     public final String value;
 
     /**
@@ -31,7 +32,17 @@ public class Phone {
         if (test == null || test.isEmpty()) {
             return true; // Allow null/empty for optional field
         }
-        return test.matches(VALIDATION_REGEX);
+        // equivalent to VALIDATION_REGEX, as \d only matches ASCII digits
+        if (test.length() < MIN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
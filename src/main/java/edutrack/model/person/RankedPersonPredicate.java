@@ -0,0 +1,16 @@
+package edutrack.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that matches persons approximately, and can tell how closely each of them matches, so
+ * that the closest matches can be listed first.
+ */
+public interface RankedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns how far {@code person}, which this predicate accepts, is from an exact match.
+     * 0 is an exact match, and larger values are worse matches.
+     */
+    int rank(Person person);
+}
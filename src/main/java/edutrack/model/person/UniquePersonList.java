@@ -3,9 +3,12 @@ package edutrack.model.person;
 import static edutrack.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import edutrack.model.person.exceptions.DuplicatePersonException;
 import edutrack.model.person.exceptions.PersonNotFoundException;
@@ -19,6 +22,9 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The position of each person is additionally indexed by {@code Name} (which is case-insensitive), so that identity
+ * checks and finding the person to replace or remove do not need to scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +34,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> indexByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return indexByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +53,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -57,44 +65,54 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
+        int index = indexOf(target);
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        indexByName.remove(target.getName());
+        indexByName.put(editedPerson.getName(), index);
         internalList.set(index, editedPerson);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * The persons after it move up by one, so their positions are re-indexed.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        int index = indexOf(toRemove);
+        indexByName.remove(toRemove.getName());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            indexByName.put(internalList.get(i).getName(), i);
         }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        indexByName.clear();
+        indexByName.putAll(replacement.indexByName);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException reporting every offending person if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Integer> replacementIndex = new HashMap<>();
+        List<Person> duplicates = indexPersons(persons, replacementIndex);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
+        indexByName.clear();
+        indexByName.putAll(replacementIndex);
         internalList.setAll(persons);
     }
 
@@ -104,6 +122,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void sortByName() {
         FXCollections.sort(internalList,
                 Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        indexByName.clear();
+        indexPersons(internalList, indexByName);
     }
 
     /**
@@ -144,16 +164,30 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, which must hold a person equal to it.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = indexByName.get(person.getName());
+        if (index == null || !person.equals(internalList.get(index))) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Indexes the positions of {@code persons} by name into {@code index} in a single pass.
+     * Returns the persons whose identity is already taken by an earlier person in {@code persons}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<Person> indexPersons(List<Person> persons, Map<Name, Integer> index) {
+        List<Person> duplicates = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (index.putIfAbsent(person.getName(), i) != null) {
+                duplicates.add(person);
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,41 @@
 package edutrack.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import edutrack.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Person> duplicates;
+
+    /**
+     * Creates a {@code DuplicatePersonException} without reporting the offending persons.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        this.duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} reporting the {@code duplicates} that caused it.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the persons whose identity clashed with an earlier person, in encounter order.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
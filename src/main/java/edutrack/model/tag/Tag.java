@@ -3,6 +3,8 @@ package edutrack.model.tag;
 import static edutrack.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import edutrack.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -31,7 +33,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_TAG_LENGTH;
+        return StringUtil.isValidLabelName(test, MAX_TAG_LENGTH);
     }
 
     @Override
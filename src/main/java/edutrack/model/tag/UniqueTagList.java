@@ -3,7 +3,9 @@ package edutrack.model.tag;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,6 +13,8 @@ import javafx.collections.ObservableList;
 /**
  * A list of tags that enforces uniqueness between its elements and does not allow nulls.
  * A tag is considered unique by comparing using {@code Tag#equals}.
+ * Each tag is also registered in a case-insensitive map so that lookups are constant-time and always resolve to the
+ * single central {@code Tag} instance held by this list.
  * Supports a minimal set of list operations.
  */
 public class UniqueTagList implements Iterable<Tag> {
@@ -18,13 +22,14 @@ public class UniqueTagList implements Iterable<Tag> {
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Tag, Tag> registry = new LinkedHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return registry.containsKey(toCheck);
     }
 
     /**
@@ -36,6 +41,7 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new IllegalArgumentException("This tag already exists.");
         }
+        registry.put(toAdd, toAdd);
         internalList.add(toAdd);
     }
 
@@ -45,10 +51,11 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public Tag get(Tag tag) {
         requireNonNull(tag);
-        return internalList.stream()
-                .filter(tag::equals)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Tag does not exist in the list."));
+        Tag centralTag = registry.get(tag);
+        if (centralTag == null) {
+            throw new IllegalArgumentException("Tag does not exist in the list.");
+        }
+        return centralTag;
     }
 
     /**
@@ -57,9 +64,11 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void remove(Tag toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Tag centralTag = registry.remove(toRemove);
+        if (centralTag == null) {
             throw new IllegalArgumentException("Tag does not exist in the list.");
         }
+        internalList.remove(centralTag);
     }
 
     /**
@@ -67,7 +76,9 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void setTags(List<Tag> tags) {
         requireNonNull(tags);
-        internalList.setAll(tags);
+        registry.clear();
+        tags.forEach(tag -> registry.putIfAbsent(tag, tag));
+        internalList.setAll(registry.values());
     }
 
     /**
@@ -0,0 +1,113 @@
+package edutrack.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Assembles an address book read from a data file: first its central groups and tags, then its persons, each of
+ * which is made to refer to the central instances of its groups and tags. Groups and tags that persons refer to but
+ * that are missing from the central lists are created, for backward compatibility.
+ *
+ * Central groups and tags are looked up by hash, and the indexes of the address book are only built when it is first
+ * queried, so assembling takes time linear in the size of the data.
+ */
+class AddressBookAssembler {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookAssembler.class);
+
+    private final Map<Group, Group> centralGroups = new LinkedHashMap<>();
+    private final Map<Tag, Tag> centralTags = new LinkedHashMap<>();
+    /** The address book being assembled, which is created once the first person is added. */
+    private AddressBook addressBook;
+
+    /**
+     * Adds {@code group} to the central groups. All central groups must be added before the first person.
+     *
+     * @throws IllegalValueException if an equal group was already added.
+     */
+    void addGroup(Group group) throws IllegalValueException {
+        assert addressBook == null;
+        if (centralGroups.putIfAbsent(group, group) != null) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+        }
+    }
+
+    /**
+     * Adds {@code tag} to the central tags. All central tags must be added before the first person.
+     *
+     * @throws IllegalValueException if an equal tag was already added.
+     */
+    void addTag(Tag tag) throws IllegalValueException {
+        assert addressBook == null;
+        if (centralTags.putIfAbsent(tag, tag) != null) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TAG);
+        }
+    }
+
+    /**
+     * Adds {@code person} after the persons added so far, referring to the central instances of its groups and tags.
+     *
+     * @throws IllegalValueException if an equal person was already added.
+     */
+    void addPerson(Person person) throws IllegalValueException {
+        AddressBook addressBook = toAddressBook();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        Set<Group> groups = new HashSet<>();
+        for (Group group : person.getGroups()) {
+            groups.add(toCentralReference(group, centralGroups, addressBook::addGroup));
+        }
+        Set<Tag> tags = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tags.add(toCentralReference(tag, centralTags, addressBook::addTag));
+        }
+
+        addressBook.addPerson(new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                tags, groups, person.getNote()));
+    }
+
+    /**
+     * Returns the address book assembled so far. No more central groups or tags can be added afterwards.
+     */
+    AddressBook toAddressBook() {
+        if (addressBook == null) {
+            addressBook = new AddressBook();
+            addressBook.setGroups(new ArrayList<>(centralGroups.values()));
+            addressBook.setTags(new ArrayList<>(centralTags.values()));
+            // leaves the indexes to be built on the first query, rather than updated once per person added
+            addressBook.setPersons(List.of());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the central instance of {@code item}.
+     * If {@code item} is not in {@code centralItems}, it is added there and passed to {@code addCentral}.
+     */
+    private static <T> T toCentralReference(T item, Map<T, T> centralItems, Consumer<T> addCentral) {
+        T centralItem = centralItems.get(item);
+        if (centralItem != null) {
+            return centralItem;
+        }
+
+        logger.warning(item + " not found in central list. Auto-creating for backward compatibility.");
+        centralItems.put(item, item);
+        addCentral.accept(item);
+        return item;
+    }
+}
@@ -0,0 +1,134 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.storage.JsonAdaptedMutation.Type;
+import javafx.collections.ListChangeListener;
+
+/**
+ * Records the changes made to an address book, from the change events of its lists, as mutations that turn a copy of
+ * the address book as of the last {@link #takeMutations()} into the current one.
+ *
+ * Recording costs as much as the changes themselves. Changes that cannot be replayed one element at a time, such as
+ * sorting the persons or replacing a whole list, are not recorded; neither are more than {@code capacity} mutations
+ * between two calls to {@link #takeMutations()}. The recording is then incomplete, and the address book has to be
+ * copied instead. The recorder must only be used on the thread that modifies the address book.
+ */
+class AddressBookChangeRecorder {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final int capacity;
+    private final ListChangeListener<Person> personsListener = this::onPersonsChanged;
+    private final ListChangeListener<Tag> tagsListener = change -> onItemsChanged(change,
+            tag -> AddressBookMutation.ofTag(Type.ADD_TAG, tag),
+            tag -> AddressBookMutation.ofTag(Type.REMOVE_TAG, tag));
+    private final ListChangeListener<Group> groupsListener = change -> onItemsChanged(change,
+            group -> AddressBookMutation.ofGroup(Type.ADD_GROUP, group),
+            group -> AddressBookMutation.ofGroup(Type.REMOVE_GROUP, group));
+
+    private List<AddressBookMutation> mutations = new ArrayList<>();
+    private boolean isComplete = true;
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, keeping at most {@code capacity} mutations at a time.
+     */
+    AddressBookChangeRecorder(ReadOnlyAddressBook addressBook, int capacity) {
+        this.addressBook = requireNonNull(addressBook);
+        this.capacity = capacity;
+        addressBook.getPersonList().addListener(personsListener);
+        addressBook.getTagList().addListener(tagsListener);
+        addressBook.getGroupList().addListener(groupsListener);
+    }
+
+    /**
+     * Returns true if this recorder records the changes made to {@code addressBook}, which is compared by identity.
+     */
+    boolean isRecording(ReadOnlyAddressBook addressBook) {
+        return this.addressBook == addressBook;
+    }
+
+    /**
+     * Returns the mutations recorded since the last call, in the order they were made, or an empty {@code Optional}
+     * if some of the changes could not be recorded. Either way, recording starts afresh from the current contents.
+     */
+    Optional<List<AddressBookMutation>> takeMutations() {
+        List<AddressBookMutation> recorded = isComplete ? mutations : null;
+        mutations = new ArrayList<>();
+        isComplete = true;
+        return Optional.ofNullable(recorded);
+    }
+
+    /**
+     * Stops recording the changes made to the address book.
+     */
+    void close() {
+        addressBook.getPersonList().removeListener(personsListener);
+        addressBook.getTagList().removeListener(tagsListener);
+        addressBook.getGroupList().removeListener(groupsListener);
+    }
+
+    /**
+     * Records an edited person as a replacement, and other changes as removals followed by additions at the end of
+     * the list, which is how the {@code AddressBook} API makes them.
+     */
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                record(AddressBookMutation.setPerson(change.getRemoved().get(0), change.getAddedSubList().get(0)));
+            } else if (isReplayable(change)) {
+                change.getRemoved().forEach(person -> record(AddressBookMutation.ofPerson(Type.REMOVE_PERSON, person)));
+                change.getAddedSubList().forEach(person ->
+                        record(AddressBookMutation.ofPerson(Type.ADD_PERSON, person)));
+            } else {
+                markIncomplete();
+            }
+        }
+    }
+
+    private <T> void onItemsChanged(ListChangeListener.Change<? extends T> change,
+            Function<T, AddressBookMutation> toAddition, Function<T, AddressBookMutation> toRemoval) {
+        while (change.next()) {
+            if (isReplayable(change)) {
+                change.getRemoved().forEach(item -> record(toRemoval.apply(item)));
+                change.getAddedSubList().forEach(item -> record(toAddition.apply(item)));
+            } else {
+                markIncomplete();
+            }
+        }
+    }
+
+    /**
+     * Returns true if the current step of {@code change} only removes elements or only appends them.
+     */
+    private static boolean isReplayable(ListChangeListener.Change<?> change) {
+        if (change.wasPermutated() || change.wasUpdated() || change.wasReplaced()) {
+            return false;
+        }
+        return !change.wasAdded() || change.getTo() == change.getList().size();
+    }
+
+    private void record(AddressBookMutation mutation) {
+        if (!isComplete) {
+            return;
+        }
+        if (mutations.size() == capacity) {
+            markIncomplete();
+            return;
+        }
+        mutations.add(mutation);
+    }
+
+    private void markIncomplete() {
+        isComplete = false;
+        mutations.clear();
+    }
+}
@@ -0,0 +1,157 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.person.exceptions.DuplicatePersonException;
+import edutrack.model.person.exceptions.PersonNotFoundException;
+import edutrack.model.tag.Tag;
+import edutrack.storage.JsonAdaptedMutation.Type;
+
+/**
+ * A single change to an address book that can be replayed on another copy of it through the {@code AddressBook} API.
+ */
+class AddressBookMutation {
+
+    private final Type type;
+    private final Person person;
+    private final Person target;
+    private final Tag tag;
+    private final Group group;
+
+    private AddressBookMutation(Type type, Person person, Person target, Tag tag, Group group) {
+        assert type != Type.BASE;
+        this.type = requireNonNull(type);
+        this.person = person;
+        this.target = target;
+        this.tag = tag;
+        this.group = group;
+    }
+
+    /**
+     * Returns a mutation that adds or removes {@code person}.
+     */
+    static AddressBookMutation ofPerson(Type type, Person person) {
+        assert type == Type.ADD_PERSON || type == Type.REMOVE_PERSON;
+        return new AddressBookMutation(type, requireNonNull(person), null, null, null);
+    }
+
+    /**
+     * Returns a mutation that replaces {@code target} with {@code editedPerson}.
+     */
+    static AddressBookMutation setPerson(Person target, Person editedPerson) {
+        return new AddressBookMutation(Type.SET_PERSON, requireNonNull(editedPerson), requireNonNull(target),
+                null, null);
+    }
+
+    /**
+     * Returns a mutation that adds or removes {@code tag}.
+     */
+    static AddressBookMutation ofTag(Type type, Tag tag) {
+        assert type == Type.ADD_TAG || type == Type.REMOVE_TAG;
+        return new AddressBookMutation(type, null, null, requireNonNull(tag), null);
+    }
+
+    /**
+     * Returns a mutation that adds or removes {@code group}.
+     */
+    static AddressBookMutation ofGroup(Type type, Group group) {
+        assert type == Type.ADD_GROUP || type == Type.REMOVE_GROUP;
+        return new AddressBookMutation(type, null, null, null, requireNonNull(group));
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person added or removed, or the edited person that replaces {@link #getTarget()}.
+     */
+    Person getPerson() {
+        return person;
+    }
+
+    Person getTarget() {
+        return target;
+    }
+
+    Tag getTag() {
+        return tag;
+    }
+
+    Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Applies this mutation to {@code addressBook}. Persons are added with the central instances of their tags and
+     * groups in {@code addressBook}. Adding a tag or group that is already there, or removing one that is not, has no
+     * effect, since adding a person also adds its groups.
+     *
+     * @throws IllegalValueException if the persons of {@code addressBook} do not allow the mutation.
+     */
+    void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (type) {
+            case ADD_PERSON:
+                addressBook.addPerson(withCentralReferences(person, addressBook));
+                break;
+            case SET_PERSON:
+                addressBook.setPerson(target, withCentralReferences(person, addressBook));
+                break;
+            case REMOVE_PERSON:
+                addressBook.removePerson(person);
+                break;
+            case ADD_TAG:
+                if (!addressBook.hasTag(tag)) {
+                    addressBook.addTag(tag);
+                }
+                break;
+            case REMOVE_TAG:
+                if (addressBook.hasTag(tag)) {
+                    addressBook.deleteTag(tag);
+                }
+                break;
+            case ADD_GROUP:
+                if (!addressBook.hasGroup(group)) {
+                    addressBook.addGroup(group);
+                }
+                break;
+            case REMOVE_GROUP:
+                if (addressBook.hasGroup(group)) {
+                    addressBook.removeGroup(group);
+                }
+                break;
+            default:
+                throw new IllegalValueException("Unexpected mutation of type " + type);
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new IllegalValueException("Mutation of type " + type + " does not match the address book.");
+        }
+    }
+
+    /**
+     * Returns a copy of {@code person} that refers to the central instances of its tags and groups in
+     * {@code addressBook}, where those exist.
+     */
+    private static Person withCentralReferences(Person person, AddressBook addressBook) {
+        Set<Tag> tags = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tags.add(addressBook.hasTag(tag) ? addressBook.getTag(tag) : tag);
+        }
+
+        Set<Group> groups = new HashSet<>();
+        for (Group group : person.getGroups()) {
+            groups.add(addressBook.hasGroup(group) ? addressBook.getGroup(group) : group);
+        }
+
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                tags, groups, person.getNote());
+    }
+}
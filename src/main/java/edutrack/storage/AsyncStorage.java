@@ -0,0 +1,297 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.StringUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.ReadOnlyUserPrefs;
+import edutrack.model.StatsModel;
+import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
+
+/**
+ * A {@code Storage} that writes the address book to another {@code Storage} on a single background thread.
+ *
+ * The writer keeps its own copy of the address book, which it serializes. Each save hands it the mutations made to
+ * the saved address book since the previous save, as recorded from the change events of its lists, so a save costs
+ * the calling thread as much as the changes rather than the size of the book. The address book is only copied on the
+ * calling thread when it is saved for the first time, or after a change that cannot be recorded, such as a sort.
+ * Saves requested while an earlier one is being written are coalesced: the writer applies every pending mutation and
+ * writes its copy once. Saving to another file also runs on the writer, after the scheduled saves.
+ * A failed background write is passed to the failure handler as soon as it happens, and is also thrown by the next
+ * call to {@link #saveAddressBook(ReadOnlyAddressBook)} or {@link #flush()}.
+ */
+public class AsyncStorage implements Storage {
+
+    /** Beyond this many mutations between two saves, copying the address book is about as cheap. */
+    static final int MAX_RECORDED_MUTATIONS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Records the changes to the address book saved last. Only used by the thread that saves. */
+    private AddressBookChangeRecorder recorder;
+
+    private final Object lock = new Object();
+    /** A copy of the address book that the writer should start from, or null to keep its own copy. */
+    private AddressBook pendingCopy;
+    private List<AddressBookMutation> pendingMutations = new ArrayList<>();
+    private boolean isSavePending = false;
+    private boolean isWriteScheduled = false;
+    private boolean isCopyNeeded = false;
+
+    /** The writer's copy of the address book. Only used by the writer thread. */
+    private AddressBook writtenAddressBook;
+    private IOException unreportedFailure;
+    private Consumer<IOException> failureHandler = failure -> {};
+
+    /**
+     * Creates an {@code AsyncStorage} that writes through to {@code storage}.
+     */
+    public AsyncStorage(Storage storage) {
+        this.storage = requireNonNull(storage);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written in the background and returns immediately.
+     *
+     * @throws IOException if an earlier background write failed and has not been reported yet.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        boolean mustCopy;
+        synchronized (lock) {
+            mustCopy = isCopyNeeded;
+            isCopyNeeded = false;
+        }
+        Optional<List<AddressBookMutation>> mutations = recorder != null && recorder.isRecording(addressBook)
+                ? recorder.takeMutations()
+                : Optional.empty();
+        AddressBook copy = null;
+        if (mutations.isEmpty() || mustCopy) {
+            copy = new AddressBook(addressBook);
+            if (recorder == null || !recorder.isRecording(addressBook)) {
+                startRecording(addressBook);
+            }
+        }
+
+        synchronized (lock) {
+            if (copy != null) {
+                pendingCopy = copy;
+                pendingMutations.clear();
+            } else {
+                pendingMutations.addAll(mutations.get());
+            }
+            isSavePending = true;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingAddressBooks);
+            }
+        }
+        throwUnreportedFailure();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} on the writer thread, after all scheduled saves, and waits for
+     * it to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        Future<?> write = writer.submit(() -> {
+            storage.saveAddressBook(addressBook, filePath);
+            return null;
+        });
+        try {
+            write.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be written", e);
+        }
+        throwUnreportedFailure();
+    }
+
+    /**
+     * Exports {@code addressBook} on the calling thread, independently of the scheduled saves.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.exportAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Exports the statistics on the calling thread, independently of the scheduled saves.
+     */
+    @Override
+    public void exportStatistics(StatsModel stats, List<Group> groups, Path filePath) throws IOException {
+        storage.exportStatistics(stats, groups, filePath);
+    }
+
+    /**
+     * Returns the bytes written so far, which excludes the scheduled saves that have not been written yet.
+     */
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+
+    /**
+     * Blocks until every scheduled save has been written.
+     *
+     * @throws IOException if a background write failed and has not been reported yet.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            // The writer runs tasks in order, so this completes after every save scheduled before it.
+            writer.submit(() -> {}).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", e);
+        }
+        throwUnreportedFailure();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> failureHandler) {
+        synchronized (lock) {
+            this.failureHandler = requireNonNull(failureHandler);
+        }
+    }
+
+    private void startRecording(ReadOnlyAddressBook addressBook) {
+        if (recorder != null) {
+            recorder.close();
+        }
+        recorder = new AddressBookChangeRecorder(addressBook, MAX_RECORDED_MUTATIONS);
+    }
+
+    /**
+     * Brings the writer's copy of the address book up to date and writes it, until no more saves are pending.
+     */
+    private void writePendingAddressBooks() {
+        while (true) {
+            AddressBook copy;
+            List<AddressBookMutation> mutations;
+            synchronized (lock) {
+                if (!isSavePending) {
+                    isWriteScheduled = false;
+                    return;
+                }
+                copy = pendingCopy;
+                mutations = pendingMutations;
+                pendingCopy = null;
+                pendingMutations = new ArrayList<>();
+                isSavePending = false;
+            }
+
+            try {
+                if (copy != null) {
+                    writtenAddressBook = copy;
+                }
+                for (AddressBookMutation mutation : mutations) {
+                    mutation.applyTo(writtenAddressBook);
+                }
+            } catch (IllegalValueException ive) {
+                logger.severe("Recorded changes do not match the address book, copying it on the next save: "
+                        + ive.getMessage());
+                synchronized (lock) {
+                    isCopyNeeded = true;
+                }
+                continue;
+            }
+
+            try {
+                storage.saveAddressBook(writtenAddressBook);
+                synchronized (lock) {
+                    // the failed data has been superseded by data that was saved successfully
+                    unreportedFailure = null;
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+                Consumer<IOException> handler;
+                synchronized (lock) {
+                    unreportedFailure = e;
+                    handler = failureHandler;
+                }
+                handler.accept(e);
+            }
+        }
+    }
+
+    private void throwUnreportedFailure() throws IOException {
+        IOException failure;
+        synchronized (lock) {
+            failure = unreportedFailure;
+            unreportedFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
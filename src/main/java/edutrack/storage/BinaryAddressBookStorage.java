@@ -0,0 +1,477 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Address;
+import edutrack.model.person.Email;
+import edutrack.model.person.Name;
+import edutrack.model.person.Note;
+import edutrack.model.person.Person;
+import edutrack.model.person.Phone;
+import edutrack.model.person.exceptions.DuplicatePersonException;
+import edutrack.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of the distinct tag and group names,
+ * the central groups and tags as indexes into that table, and then one length-prefixed record per person.
+ * Strings are stored as their length followed by their UTF-8 bytes, and all numbers are big-endian ints.
+ * Unlike JSON, reading the file involves no tokenizing and validates each field only once.
+ *
+ * A data file that still holds JSON, for instance after switching an existing data file to the binary format, is read
+ * as JSON and immediately rewritten in the binary format, keeping the JSON file as its backup.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_TRUNCATED = "Binary address book is truncated or corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    /** "EDTB" in ASCII. */
+    private static final int MAGIC_NUMBER = 0x45445442;
+    private static final int FORMAT_VERSION = 1;
+    /** Number of bytes at the start of a file that are looked at to tell whether it holds JSON. */
+    private static final int JSON_DETECTION_LENGTH = 1024;
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath} that, if the data file does not
+     * exist yet, converts the JSON data file at {@code jsonFilePath} instead, if there is one.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the backup kept by the previous save if the file is missing or cannot be loaded.
+     * Data read from JSON into this storage's own file is converted to the binary format straight away.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        boolean isReadFromJson = isOwnFile && holdsJson(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBookWithBackup(filePath);
+        if (addressBook.isEmpty() && isOwnFile && jsonFilePath != null && FileUtil.isFileExists(jsonFilePath)) {
+            logger.info("Data file " + filePath + " is missing, converting JSON data file " + jsonFilePath);
+            addressBook = readJsonAddressBook(jsonFilePath);
+            isReadFromJson = true;
+        }
+        if (addressBook.isPresent() && isReadFromJson) {
+            convert(addressBook.get());
+        }
+        return addressBook;
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookWithBackup(Path filePath) throws DataLoadingException {
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(filePath);
+            if (addressBook.isPresent() || !FileUtil.isFileExists(backupFilePath)) {
+                return addressBook;
+            }
+            logger.warning("Data file " + filePath + " is missing, falling back to " + backupFilePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, falling back to " + backupFilePath);
+        }
+        return readAddressBookFile(backupFilePath);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer content = readFully(filePath);
+            if (isJson(content)) {
+                logger.info("Data file " + filePath + " holds JSON, reading it as JSON");
+                return readJsonAddressBook(filePath);
+            }
+            return Optional.of(decode(content));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the JSON data file at {@code jsonFilePath}, replaying its journal if it has one.
+     */
+    private static Optional<ReadOnlyAddressBook> readJsonAddressBook(Path jsonFilePath) throws DataLoadingException {
+        return new JournalingAddressBookStorage(jsonFilePath).readAddressBook();
+    }
+
+    /**
+     * Writes {@code addressBook}, which was read from JSON, to this storage's file in the binary format.
+     * A failure is only logged, as the JSON data can still be converted on the next start.
+     */
+    private void convert(ReadOnlyAddressBook addressBook) {
+        try {
+            saveAddressBook(addressBook);
+            logger.info("Converted data file " + filePath + " to the binary format");
+        } catch (IOException e) {
+            logger.warning("Failed to convert data file " + filePath + " to the binary format: " + e);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and looks like JSON, judging by its first bytes.
+     */
+    private static boolean holdsJson(Path filePath) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(JSON_DETECTION_LENGTH);
+            channel.read(head);
+            head.flip();
+            return isJson(head);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code content} looks like a JSON object, i.e. starts with a brace after any whitespace.
+     */
+    private static boolean isJson(ByteBuffer content) {
+        for (int i = content.position(); i < content.limit(); i++) {
+            byte b = content.get(i);
+            if (!Character.isWhitespace(b)) {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        bytesWritten.addAndGet(FileUtil.writeToFileWithBackup(filePath, out -> encode(addressBook, out)));
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Returns the whole content of {@code filePath}, read through a {@code FileChannel}.
+     * The file is not memory-mapped, as a mapped file cannot be replaced on some platforms until it is unmapped.
+     */
+    private static ByteBuffer readFully(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format, without closing {@code out}.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        addressBook.getGroupList().forEach(group -> indexOf(group.groupName, stringIndexes));
+        addressBook.getTagList().forEach(tag -> indexOf(tag.tagName, stringIndexes));
+        for (Person person : addressBook.getPersonList()) {
+            person.getGroups().forEach(group -> indexOf(group.groupName, stringIndexes));
+            person.getTags().forEach(tag -> indexOf(tag.tagName, stringIndexes));
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC_NUMBER);
+        data.writeInt(FORMAT_VERSION);
+
+        data.writeInt(stringIndexes.size());
+        for (String name : stringIndexes.keySet()) {
+            writeString(data, name);
+        }
+
+        data.writeInt(addressBook.getGroupList().size());
+        for (Group group : addressBook.getGroupList()) {
+            data.writeInt(stringIndexes.get(group.groupName));
+        }
+        data.writeInt(addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            data.writeInt(stringIndexes.get(tag.tagName));
+        }
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        data.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writeString(record, person.getName().fullName);
+            writeString(record, person.getPhone().value);
+            writeString(record, person.getEmail().value);
+            writeString(record, person.getAddress().value);
+            writeString(record, person.getNote() == null ? "" : person.getNote().value);
+            record.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                record.writeInt(stringIndexes.get(tag.tagName));
+            }
+            record.writeInt(person.getGroups().size());
+            for (Group group : person.getGroups()) {
+                record.writeInt(stringIndexes.get(group.groupName));
+            }
+
+            data.writeInt(recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static int indexOf(String name, Map<String, Integer> stringIndexes) {
+        Integer index = stringIndexes.get(name);
+        if (index == null) {
+            index = stringIndexes.size();
+            stringIndexes.put(name, index);
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}.
+     * Groups and tags referenced by persons that are missing from the central lists are created, as when reading JSON.
+     *
+     * @throws IllegalValueException if the content is not a valid binary address book.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[readCount(buffer)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+            CentralList<Group> groups = new CentralList<>(strings.length);
+            CentralList<Tag> tags = new CentralList<>(strings.length);
+
+            int groupCount = buffer.getInt();
+            for (int i = 0; i < groupCount; i++) {
+                if (!groups.addCentral(buffer.getInt(), strings, Group::new)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+                }
+            }
+            int tagCount = buffer.getInt();
+            for (int i = 0; i < tagCount; i++) {
+                if (!tags.addCentral(buffer.getInt(), strings, Tag::new)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TAG);
+                }
+            }
+
+            int personCount = readCount(buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = buffer.getInt();
+                if (recordLength < 0 || recordLength > buffer.remaining()) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED);
+                }
+                int recordEnd = buffer.position() + recordLength;
+
+                Name name = new Name(readString(buffer));
+                Phone phone = new Phone(readString(buffer));
+                Email email = new Email(readString(buffer));
+                Address address = new Address(readString(buffer));
+                Note note = new Note(readString(buffer));
+                Set<Tag> personTags = new HashSet<>();
+                for (int tagsLeft = buffer.getInt(); tagsLeft > 0; tagsLeft--) {
+                    personTags.add(tags.get(buffer.getInt(), strings, Tag::new));
+                }
+                Set<Group> personGroups = new HashSet<>();
+                for (int groupsLeft = buffer.getInt(); groupsLeft > 0; groupsLeft--) {
+                    personGroups.add(groups.get(buffer.getInt(), strings, Group::new));
+                }
+                persons.add(new Person(name, phone, email, address, personTags, personGroups, note));
+
+                if (buffer.position() > recordEnd) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED);
+                }
+                // skips fields appended to the record by later versions
+                buffer.position(recordEnd);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setGroups(groups.toList());
+            addressBook.setTags(tags.toList());
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (IllegalArgumentException e) {
+            // a field does not satisfy the constraints of the model
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the number of items in a table of length-prefixed entries, each of which takes at least an int.
+     *
+     * @throws BufferUnderflowException if the rest of {@code buffer} cannot hold that many entries.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The central instances of tags or groups being decoded, looked up by their index in the string table.
+     */
+    private static class CentralList<T> {
+        private final List<T> byIndex;
+        private final Map<T, T> instances = new LinkedHashMap<>();
+
+        CentralList(int stringCount) {
+            byIndex = new ArrayList<>(stringCount);
+            for (int i = 0; i < stringCount; i++) {
+                byIndex.add(null);
+            }
+        }
+
+        /**
+         * Adds the item named by string {@code index} to the central list.
+         * Returns false if an equal item is already in the list.
+         */
+        boolean addCentral(int index, String[] strings, Function<String, T> constructor) {
+            T item = constructor.apply(strings[index]);
+            if (instances.putIfAbsent(item, item) != null) {
+                return false;
+            }
+            byIndex.set(index, item);
+            return true;
+        }
+
+        /**
+         * Returns the central item named by string {@code index}, adding it to the central list if it is missing.
+         */
+        T get(int index, String[] strings, Function<String, T> constructor) {
+            T item = byIndex.get(index);
+            if (item == null) {
+                T newItem = constructor.apply(strings[index]);
+                T existing = instances.putIfAbsent(newItem, newItem);
+                item = existing == null ? newItem : existing;
+                byIndex.set(index, item);
+            }
+            return item;
+        }
+
+        List<T> toList() {
+            return new ArrayList<>(instances.values());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import edutrack.commons.core.LogsCenter;
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.storage.JsonAdaptedMutation.Type;
+
+/**
+ * An {@code AddressBookStorage} that keeps a JSON snapshot of the address book plus an append-only journal of the
+ * mutations made since that snapshot was written.
+ *
+ * The changes made to the saved address book are recorded as they happen, from the change events of its lists, and
+ * saving it again only appends (and fsyncs) those, so both its CPU and disk cost grow with the size of the change
+ * rather than the size of the book. The journal is compacted into a fresh snapshot once it grows past a threshold,
+ * when another address book is saved, or when a change cannot be expressed as journal entries (e.g. sorting).
+ * Reading replays the journal on top of the snapshot, up to the first entry that cannot be replayed.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    /** Checksum recorded for a snapshot file that does not exist. */
+    private static final long MISSING_SNAPSHOT_CHECKSUM = -1;
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Records the changes to the address book saved last, or null if the next save must write a snapshot. */
+    private AddressBookChangeRecorder recorder;
+    private int journalEntryCount = 0;
+    private final AtomicLong journalBytesWritten = new AtomicLong();
+
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} whose snapshot lives at {@code filePath} and whose journal is
+     * compacted once it holds more than {@code compactionThreshold} entries.
+     */
+    public JournalingAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return FileUtil.getJournalPath(snapshotFilePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     * A journal that was written for a different snapshot, or that cannot be read, is ignored. Replaying stops at the
+     * first entry that cannot be parsed or applied, such as a torn entry at the end of the journal, and the address
+     * book is loaded as of the entries before it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<JsonAdaptedMutation> entries;
+        try {
+            entries = readJournal(journalFilePath);
+            if (entries.isEmpty() || entries.get(0).getType() != Type.BASE
+                    || entries.get(0).getChecksum() != checksumOf(filePath)) {
+                logger.info("Journal " + journalFilePath + " does not belong to " + filePath + ", ignoring it.");
+                return snapshot;
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ", ignoring it: " + e);
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        int replayedCount = 0;
+        for (JsonAdaptedMutation entry : entries.subList(1, entries.size())) {
+            try {
+                entry.toModelType().applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.warning("Journal " + journalFilePath + " cannot be replayed past entry " + (replayedCount + 1)
+                        + ", ignoring the rest of it: " + ive.getMessage());
+                break;
+            }
+            replayedCount++;
+        }
+        logger.info("Replayed " + replayedCount + " journal entries from " + journalFilePath);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own file writes a plain snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<AddressBookMutation>> mutations = recorder != null && recorder.isRecording(addressBook)
+                ? recorder.takeMutations()
+                : Optional.empty();
+        if (mutations.isEmpty() || journalEntryCount + mutations.get().size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+
+        if (mutations.get().isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedMutation> entries = new ArrayList<>();
+        mutations.get().forEach(mutation -> entries.add(new JsonAdaptedMutation(mutation)));
+        try {
+            appendToJournal(entries, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end with a partial entry; start afresh from a snapshot on the next save.
+            stopRecording();
+            throw e;
+        }
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Returns the bytes written to both the snapshots and the journal.
+     */
+    @Override
+    public long getBytesWritten() {
+        return snapshotStorage.getBytesWritten() + journalBytesWritten.get();
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh snapshot, starts a new journal for it and starts recording its changes.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        logger.fine("Compacting journal into snapshot " + filePath);
+
+        stopRecording();
+        long checksum = snapshotStorage.saveAddressBookWithChecksum(addressBook, filePath);
+        // A crash before the journal is truncated leaves a journal whose checksum no longer matches the snapshot.
+        appendToJournal(List.of(JsonAdaptedMutation.base(checksum)), StandardOpenOption.TRUNCATE_EXISTING);
+
+        journalEntryCount = 0;
+        recorder = new AddressBookChangeRecorder(addressBook, compactionThreshold);
+    }
+
+    private void stopRecording() {
+        if (recorder != null) {
+            recorder.close();
+            recorder = null;
+        }
+    }
+
+    /**
+     * Writes {@code entries} to the journal, one per line, and forces them to the storage device.
+     */
+    private void appendToJournal(List<JsonAdaptedMutation> entries, StandardOpenOption mode) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedMutation entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journalBytesWritten.addAndGet(channel.write(buffer));
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal at {@code journalFilePath}, stopping at the first entry that cannot be parsed
+     * (which is what a crash in the middle of an append leaves behind).
+     */
+    private static List<JsonAdaptedMutation> readJournal(Path journalFilePath) throws IOException {
+        List<JsonAdaptedMutation> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(line, JsonAdaptedMutation.class));
+            } catch (IOException e) {
+                logger.warning("Ignoring torn entry at the end of journal " + journalFilePath + ": " + e);
+                break;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the CRC-32 of the snapshot at {@code filePath}, reading it through a fixed-size buffer, or
+     * {@link #MISSING_SNAPSHOT_CHECKSUM} if there is no such file.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return MISSING_SNAPSHOT_CHECKSUM;
+        }
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+}
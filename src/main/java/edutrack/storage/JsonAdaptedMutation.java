@@ -0,0 +1,125 @@
+package edutrack.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import edutrack.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single address book mutation, stored as one line of the journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry of type %s is missing its %s!";
+
+    /**
+     * Kinds of journal entries.
+     */
+    enum Type {
+        /** First entry of a journal; identifies the snapshot the journal applies to. */
+        BASE,
+        ADD_PERSON,
+        SET_PERSON,
+        REMOVE_PERSON,
+        ADD_TAG,
+        REMOVE_TAG,
+        ADD_GROUP,
+        REMOVE_GROUP
+    }
+
+    private final Type type;
+    private final Long checksum;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson target;
+    private final JsonAdaptedTag tag;
+    private final JsonAdaptedGroup group;
+
+    /**
+     * Constructs a {@code JsonAdaptedMutation} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedMutation(@JsonProperty("type") Type type, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("target") JsonAdaptedPerson target,
+            @JsonProperty("tag") JsonAdaptedTag tag, @JsonProperty("group") JsonAdaptedGroup group) {
+        this.type = type;
+        this.checksum = checksum;
+        this.person = person;
+        this.target = target;
+        this.tag = tag;
+        this.group = group;
+    }
+
+    /**
+     * Converts a given {@code AddressBookMutation} into this class for Jackson use.
+     */
+    JsonAdaptedMutation(AddressBookMutation source) {
+        this(source.getType(), null,
+                source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson()),
+                source.getTarget() == null ? null : new JsonAdaptedPerson(source.getTarget()),
+                source.getTag() == null ? null : new JsonAdaptedTag(source.getTag()),
+                source.getGroup() == null ? null : new JsonAdaptedGroup(source.getGroup()));
+    }
+
+    /**
+     * Returns the header entry of a journal that applies to a snapshot with the given {@code checksum}.
+     */
+    static JsonAdaptedMutation base(long checksum) {
+        return new JsonAdaptedMutation(Type.BASE, checksum, null, null, null, null);
+    }
+
+    public Type getType() throws IllegalValueException {
+        return require(type, "type");
+    }
+
+    public long getChecksum() throws IllegalValueException {
+        return require(checksum, "checksum");
+    }
+
+    public JsonAdaptedPerson getPerson() throws IllegalValueException {
+        return require(person, "person");
+    }
+
+    public JsonAdaptedPerson getTarget() throws IllegalValueException {
+        return require(target, "target");
+    }
+
+    public JsonAdaptedTag getTag() throws IllegalValueException {
+        return require(tag, "tag");
+    }
+
+    public JsonAdaptedGroup getGroup() throws IllegalValueException {
+        return require(group, "group");
+    }
+
+    /**
+     * Converts this Jackson-friendly entry back into the model's {@code AddressBookMutation} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    AddressBookMutation toModelType() throws IllegalValueException {
+        switch (getType()) {
+        case ADD_PERSON:
+        case REMOVE_PERSON:
+            return AddressBookMutation.ofPerson(type, getPerson().toModelType());
+        case SET_PERSON:
+            return AddressBookMutation.setPerson(getTarget().toModelType(), getPerson().toModelType());
+        case ADD_TAG:
+        case REMOVE_TAG:
+            return AddressBookMutation.ofTag(type, getTag().toModelType());
+        case ADD_GROUP:
+        case REMOVE_GROUP:
+            return AddressBookMutation.ofGroup(type, getGroup().toModelType());
+        default:
+            throw new IllegalValueException("Unexpected journal entry of type " + type);
+        }
+    }
+
+    private <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, type, fieldName));
+        }
+        return field;
+    }
+}
@@ -0,0 +1,141 @@
+package edutrack.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+/**
+ * Reads and writes address books in the JSON format of {@link JsonSerializableAddressBook}, one token at a time.
+ * Unlike binding the whole file to a {@code JsonSerializableAddressBook}, the file content is never held in memory as
+ * a whole. Persons are converted to the model in chunks as they are read, in parallel with the parsing of the rest of
+ * the file, and each chunk drops its {@code JsonAdaptedPerson}s once converted. The converted persons are kept until
+ * the end of the file, as the central groups and tags they refer to may come after them, and are then added to the
+ * address book one chunk at a time.
+ */
+class JsonAddressBookCodec {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GROUPS_FIELD = "groups";
+    private static final String TAGS_FIELD = "tags";
+
+    /**
+     * Returns the address book in the JSON file at {@code filePath}, or {@code Optional.empty()} if there is no file.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<ReadOnlyAddressBook> read(Path filePath) throws IOException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(read(parser));
+        }
+    }
+
+    /**
+     * Reads an address book from {@code parser}.
+     * Groups and tags referenced by persons that are missing from the central lists are created, as by the
+     * {@link AddressBookAssembler}.
+     */
+    private static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        ParallelPersonDecoder personDecoder = new ParallelPersonDecoder();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (fieldName) {
+            case GROUPS_FIELD:
+                startArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.addGroup(parser.readValueAs(JsonAdaptedGroup.class).toModelType());
+                }
+                break;
+            case TAGS_FIELD:
+                startArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.addTag(parser.readValueAs(JsonAdaptedTag.class).toModelType());
+                }
+                break;
+            case PERSONS_FIELD:
+                startArray(parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    // validated in the background while the rest of the file is parsed
+                    personDecoder.add(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        // the central groups and tags have all been read by now, wherever they were in the file
+        personDecoder.decodeInto(assembler);
+        return assembler.toAddressBook();
+    }
+
+    private static void startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for " + parser.getCurrentName());
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as JSON, without closing {@code out}.
+     * The central groups and tags are written before the persons, so that {@link #read(Path)} can resolve each
+     * person as soon as it is read.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(GROUPS_FIELD);
+            for (Group group : addressBook.getGroupList()) {
+                generator.writeObject(new JsonAdaptedGroup(group));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(TAGS_FIELD);
+            for (Tag tag : addressBook.getTagList()) {
+                generator.writeObject(new JsonAdaptedTag(tag));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
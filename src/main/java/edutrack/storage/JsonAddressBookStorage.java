@@ -5,13 +5,15 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import edutrack.commons.core.LogsCenter;
 import edutrack.commons.exceptions.DataLoadingException;
 import edutrack.commons.exceptions.IllegalValueException;
 import edutrack.commons.util.FileUtil;
-import edutrack.commons.util.JsonUtil;
 import edutrack.model.ReadOnlyAddressBook;
 
 /**
@@ -22,6 +24,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final AtomicLong bytesWritten = new AtomicLong();
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -38,6 +41,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Falls back to the backup kept by the previous save if the file is missing or cannot be loaded.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +49,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(filePath);
+            if (addressBook.isPresent() || !FileUtil.isFileExists(backupFilePath)) {
+                return addressBook;
+            }
+            logger.warning("Data file " + filePath + " is missing, falling back to " + backupFilePath);
+        } catch (DataLoadingException e) {
+            if (!FileUtil.isFileExists(backupFilePath)) {
+                throw e;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, falling back to " + backupFilePath);
         }
+        return readAddressBookFile(backupFilePath);
+    }
 
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookCodec.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from JSON file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +91,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        long byteCount = FileUtil.writeToFileWithBackup(filePath, out -> JsonAddressBookCodec.write(addressBook, out));
+        bytesWritten.addAndGet(byteCount);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but also returns the CRC-32 of the bytes written,
+     * computed as they are written rather than by reading the file back.
+     */
+    long saveAddressBookWithChecksum(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        CRC32 crc = new CRC32();
+        long byteCount = FileUtil.writeToFileWithBackup(filePath, out -> {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, crc);
+            JsonAddressBookCodec.write(addressBook, checkedOut);
+            checkedOut.flush();
+        });
+        bytesWritten.addAndGet(byteCount);
+        return crc.getValue();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
     }
 
 }
@@ -0,0 +1,139 @@
+package edutrack.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s to the model on a fork-join pool, one chunk of persons per task.
+ *
+ * Chunks start converting as soon as they are full, so they are validated while later persons are still being read.
+ * The persons are handed on in the order they were added. If several persons are invalid, the error of the first one
+ * is reported, so the outcome does not depend on the order in which the chunks happened to run.
+ */
+class ParallelPersonDecoder {
+
+    /** Large enough for each task to outweigh its scheduling cost, small enough to spread a few thousand persons. */
+    static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Queue<DecodeChunk> submittedChunks = new ArrayDeque<>();
+    private List<JsonAdaptedPerson> pendingPersons;
+
+    /**
+     * Creates a {@code ParallelPersonDecoder} that runs on the common fork-join pool.
+     */
+    ParallelPersonDecoder() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonDecoder} that runs on {@code pool}, converting {@code chunkSize} persons per task.
+     */
+    ParallelPersonDecoder(ForkJoinPool pool, int chunkSize) {
+        requireNonNull(pool);
+        assert chunkSize > 0;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        pendingPersons = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Queues {@code person} to be converted. Once a chunk is full, it is converted in the background.
+     */
+    void add(JsonAdaptedPerson person) {
+        requireNonNull(person);
+        assert pendingPersons != null : "persons cannot be added once decoded";
+        pendingPersons.add(person);
+        if (pendingPersons.size() == chunkSize) {
+            DecodeChunk chunk = new DecodeChunk(pendingPersons);
+            pool.execute(chunk);
+            submittedChunks.add(chunk);
+            pendingPersons = new ArrayList<>(chunkSize);
+        }
+    }
+
+    /**
+     * Adds the persons converted from all the added {@code JsonAdaptedPerson}s to {@code assembler}, in the order
+     * they were added. Each chunk is handed over and released as soon as it is converted, so the converted persons
+     * are not collected into a list of their own. The last, partially filled chunk is converted on the calling thread.
+     *
+     * @throws IllegalValueException of the first added person that violates the data constraints, or that the
+     *     {@code assembler} rejects.
+     */
+    void decodeInto(AddressBookAssembler assembler) throws IllegalValueException {
+        requireNonNull(assembler);
+        submittedChunks.add(new DecodeChunk(pendingPersons));
+        pendingPersons = null;
+        try {
+            while (!submittedChunks.isEmpty()) {
+                DecodeChunk chunk = submittedChunks.poll();
+                if (submittedChunks.isEmpty()) {
+                    chunk.compute();
+                } else {
+                    chunk.join();
+                }
+                chunk.addDecodedPersonsTo(assembler);
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            // the chunks after the first invalid person are of no use
+            submittedChunks.forEach(chunk -> chunk.cancel(false));
+            submittedChunks.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts a chunk of persons, stopping at the first invalid one.
+     * Only the persons in their current form are held: the adapted persons are dropped once converted, and the
+     * converted ones once handed over.
+     */
+    private static class DecodeChunk extends RecursiveAction {
+        private List<JsonAdaptedPerson> adaptedPersons;
+        private List<Person> decodedPersons;
+        private IllegalValueException failure;
+
+        DecodeChunk(List<JsonAdaptedPerson> adaptedPersons) {
+            this.adaptedPersons = adaptedPersons;
+        }
+
+        @Override
+        protected void compute() {
+            List<Person> persons = new ArrayList<>(adaptedPersons.size());
+            try {
+                for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+                    persons.add(adaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException e) {
+                failure = e;
+            }
+            adaptedPersons = null;
+            decodedPersons = persons;
+        }
+
+        /**
+         * Adds the converted persons of this completed chunk to {@code assembler}, and releases them.
+         *
+         * @throws IllegalValueException if a person in this chunk is invalid.
+         */
+        void addDecodedPersonsTo(AddressBookAssembler assembler) throws IllegalValueException {
+            if (failure != null) {
+                throw failure;
+            }
+            List<Person> persons = decodedPersons;
+            decodedPersons = null;
+            for (Person person : persons) {
+                assembler.addPerson(person);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package edutrack.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.StatsModel;
+import edutrack.model.group.Group;
+
+/**
+ * Writes the statistics shown by the {@code stats} command as a CSV or JSON report.
+ *
+ * The CSV report is a cross-tab with a row for all students and then a row per group, and a column with the number of
+ * students followed by a column per tag in use. The JSON report has the same counts, listing only the tags in use
+ * within each group. Both are streamed from the counts kept by the {@link StatsModel}, so writing a report costs as
+ * much as the report rather than a pass over every student.
+ */
+class StatsReportWriter {
+
+    static final String CSV_EXTENSION = ".csv";
+
+    /** The group column of the CSV row for all students, which cannot be the name of a group. */
+    static final String CSV_ALL_STUDENTS = "(all)";
+    static final String CSV_GROUP_HEADER = "group";
+    static final String CSV_STUDENTS_HEADER = "students";
+
+    static final String JSON_STUDENTS_FIELD = "students";
+    static final String JSON_TAGS_FIELD = "tags";
+    static final String JSON_GROUPS_FIELD = "groups";
+    static final String JSON_NAME_FIELD = "name";
+
+    /**
+     * Writes the report of {@code stats} for {@code groups} to {@code out}, without closing it: as CSV if the name of
+     * {@code filePath} ends with {@link #CSV_EXTENSION}, ignoring case, or as JSON otherwise.
+     */
+    static void write(StatsModel stats, List<Group> groups, Path filePath, OutputStream out) throws IOException {
+        if (isCsvFile(filePath)) {
+            writeCsv(stats, groups, out);
+        } else {
+            writeJson(stats, groups, out);
+        }
+    }
+
+    private static boolean isCsvFile(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+    }
+
+    /**
+     * Writes the cross-tab of {@code stats} as CSV to {@code out}, without closing it.
+     * Tag and group names only contain letters, digits, {@code _}, {@code -} and {@code /}, so no value is quoted.
+     */
+    private static void writeCsv(StatsModel stats, List<Group> groups, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Set<String> tagNames = stats.getTagCounts().keySet();
+
+        writer.write(CSV_GROUP_HEADER + "," + CSV_STUDENTS_HEADER);
+        for (String tagName : tagNames) {
+            writer.write(',');
+            writer.write(tagName);
+        }
+        writer.write('\n');
+
+        writeCsvRow(writer, CSV_ALL_STUDENTS, stats.getPersonCount(), tagNames, stats.getTagCounts());
+        for (Group group : groups) {
+            writeCsvRow(writer, group.groupName, stats.getPersonCountInGroup(group), tagNames,
+                    stats.getTagCountsInGroup(group));
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, String groupName, int studentCount, Set<String> tagNames,
+            Map<String, Integer> tagCounts) throws IOException {
+        writer.write(groupName);
+        writer.write(',');
+        writer.write(Integer.toString(studentCount));
+        for (String tagName : tagNames) {
+            writer.write(',');
+            writer.write(Integer.toString(tagCounts.getOrDefault(tagName, 0)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes {@code stats} as JSON to {@code out}, without closing it.
+     */
+    private static void writeJson(StatsModel stats, List<Group> groups, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(JSON_STUDENTS_FIELD, stats.getPersonCount());
+            writeJsonTagCounts(generator, stats.getTagCounts());
+
+            generator.writeArrayFieldStart(JSON_GROUPS_FIELD);
+            for (Group group : groups) {
+                generator.writeStartObject();
+                generator.writeStringField(JSON_NAME_FIELD, group.groupName);
+                generator.writeNumberField(JSON_STUDENTS_FIELD, stats.getPersonCountInGroup(group));
+                writeJsonTagCounts(generator, stats.getTagCountsInGroup(group));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeJsonTagCounts(JsonGenerator generator, SortedMap<String, Integer> tagCounts)
+            throws IOException {
+        generator.writeObjectFieldStart(JSON_TAGS_FIELD);
+        for (Map.Entry<String, Integer> tagCount : tagCounts.entrySet()) {
+            generator.writeNumberField(tagCount.getKey(), tagCount.getValue());
+        }
+        generator.writeEndObject();
+    }
+}
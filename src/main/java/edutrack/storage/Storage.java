@@ -2,12 +2,16 @@ package edutrack.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import edutrack.commons.exceptions.DataLoadingException;
 import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.ReadOnlyUserPrefs;
+import edutrack.model.StatsModel;
 import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
 
 /**
  * API of the Storage component
@@ -29,4 +33,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes {@code addressBook} to {@code filePath} as JSON, whatever format the address book is stored in.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Writes the report of {@code stats} for {@code groups} to {@code filePath}, as CSV if its name ends with
+     * {@code .csv}, ignoring case, or as JSON otherwise.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    void exportStatistics(StatsModel stats, List<Group> groups, Path filePath) throws IOException;
+
+    /**
+     * Blocks until every address book passed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written.
+     * Storages that save synchronously have nothing to flush.
+     *
+     * @throws IOException if a pending save failed.
+     */
+    default void flush() throws IOException {}
+
+    /**
+     * Sets the handler that is notified, possibly from another thread, when a save made in the background fails.
+     * Storages that save synchronously report failures by throwing instead, and ignore the handler.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> failureHandler) {}
+
 }
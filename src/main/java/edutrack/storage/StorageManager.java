@@ -2,14 +2,19 @@ package edutrack.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.LogsCenter;
 import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.util.FileUtil;
 import edutrack.model.ReadOnlyAddressBook;
 import edutrack.model.ReadOnlyUserPrefs;
+import edutrack.model.StatsModel;
 import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,6 +24,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AtomicLong exportedBytes = new AtomicLong();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -75,4 +81,25 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Attempting to export data to file: " + filePath);
+        exportedBytes.addAndGet(FileUtil.writeToFile(filePath, out -> JsonAddressBookCodec.write(addressBook, out)));
+    }
+
+    @Override
+    public void exportStatistics(StatsModel stats, List<Group> groups, Path filePath) throws IOException {
+        logger.fine("Attempting to export statistics to file: " + filePath);
+        exportedBytes.addAndGet(FileUtil.writeToFile(filePath,
+                out -> StatsReportWriter.write(stats, groups, filePath, out)));
+    }
+
+    /**
+     * Returns the bytes written to the data files, including exported files.
+     */
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten() + exportedBytes.get();
+    }
+
 }
@@ -9,6 +9,7 @@ import edutrack.logic.commands.CommandResult;
 import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.logic.parser.exceptions.ParseException;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -27,6 +28,8 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private static final String MESSAGE_EXIT_SAVE_FAILED = "Exit again to close without saving the latest changes.";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -39,6 +42,8 @@ public class MainWindow extends UiPart<Stage> {
     private StatsWindow statsWindow;
     private GroupsPanel groupsPanel;
 
+    private boolean hasExitSaveFailed = false;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -127,6 +132,12 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        // Saves run in the background, so their failures arrive on another thread
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> {
+            statusBarFooter.showSaveFailure(message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
@@ -175,10 +186,22 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application, after waiting for pending saves to be written.
+     * If a pending save fails, the error is shown and the application stays open, unless it failed before.
      */
     @FXML
     private void handleExit() {
+        try {
+            logic.flushPendingSaves();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data before exiting: " + e.getMessage());
+            if (!hasExitSaveFailed) {
+                hasExitSaveFailed = true;
+                resultDisplay.setFeedbackToUser(e.getMessage() + "\n" + MESSAGE_EXIT_SAVE_FAILED);
+                return;
+            }
+        }
+
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
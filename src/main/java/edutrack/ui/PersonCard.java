@@ -1,9 +1,14 @@
 package edutrack.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
 
 import edutrack.model.person.Person;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
@@ -24,8 +29,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -45,24 +48,62 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label note;
 
+    private Person person;
+
+    /**
+     * Creates an empty {@code PersonCard}, which shows a person once {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the index {@code displayedIndex} on this card, in place of the person it showed.
+     * The nodes of the card are reused, including the tag and group labels, so that a card can be rebound whenever
+     * its list cell is given another person.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        person.getGroups().stream()
-                .sorted(Comparator.comparing(group -> group.groupName))
-                .forEach(group -> groups.getChildren().add(new Label(group.groupName)));
+        setLabelTexts(tags, person.getSortedTags(), tag -> tag.tagName);
+        setLabelTexts(groups, person.getSortedGroups(), group -> group.groupName);
         note.setText(person.getNote().value);
     }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows a label with the text of each of {@code items} in {@code pane}, in order, reusing the labels already in
+     * it.
+     */
+    private static <T> void setLabelTexts(FlowPane pane, List<T> items, Function<T, String> textOf) {
+        ObservableList<Node> labels = pane.getChildren();
+        for (int i = 0; i < items.size(); i++) {
+            String text = textOf.apply(items.get(i));
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(text);
+            } else {
+                labels.add(new Label(text));
+            }
+        }
+        if (labels.size() > items.size()) {
+            labels.remove(items.size(), labels.size());
+        }
+    }
 }
@@ -1,32 +1,56 @@
 package edutrack.ui;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import edutrack.commons.core.LogsCenter;
+import edutrack.commons.util.StringUtil;
 import edutrack.logic.Logic;
+import edutrack.model.StatsModel;
+import edutrack.model.group.Group;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
-import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.stage.Stage;
 
 /**
- * Controller for a stats page
+ * Controller for a stats page.
+ *
+ * The statistics are listed one line per tag or group in a {@link ListView}, which only lays out the visible lines.
+ * The lines are produced by a background task from a snapshot of the statistics, and are added to the list in
+ * batches as they are produced. The task is cancelled when the window is hidden, and is restarted when the address
+ * book changes while the window is showing.
  */
 public class StatsWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(StatsWindow.class);
     private static final String FXML = "StatsWindow.fxml";
+    /** The number of lines added to the list at a time. */
+    private static final int LINE_BATCH_SIZE = 500;
 
     private boolean firstOpenSized = false;
 
     @FXML
-    private Label statsMessage;
+    private ListView<String> statsList;
 
     private final Logic logic;
+    private final ObservableList<String> statsLines = FXCollections.observableArrayList();
+    private final ExecutorService renderer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stats-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private StatsRenderTask renderTask;
+    private boolean isRefreshScheduled = false;
 
     /**
      * Creates a new StatsWindow.
@@ -37,7 +61,13 @@ public class StatsWindow extends UiPart<Stage> {
     public StatsWindow(Stage root, Logic logic) {
         super(FXML, root);
         this.logic = logic;
-        updateStatsDisplay();
+        statsList.setItems(statsLines);
+        root.setOnHidden(event -> cancelRendering());
+
+        // the counts are updated by listeners of the persons list too, so refresh after all of them have run
+        InvalidationListener refreshListener = unused -> scheduleRefresh();
+        logic.getAddressBook().getPersonList().addListener(refreshListener);
+        logic.getAddressBook().getGroupList().addListener(refreshListener);
     }
 
     /**
@@ -83,7 +113,7 @@ public class StatsWindow extends UiPart<Stage> {
 
         if (!firstOpenSized) {
             firstOpenSized = true;
-            javafx.application.Platform.runLater(() -> {
+            Platform.runLater(() -> {
                 getRoot().setMaxHeight(Double.MAX_VALUE);
             });
         }
@@ -125,102 +155,125 @@ public class StatsWindow extends UiPart<Stage> {
     }
 
     /**
-     * Updates the statistics display with current data.
+     * Cancels the current rendering and starts rendering the current statistics into the list.
+     * Only a snapshot of the counts is taken on this thread; the lines are produced on the renderer thread.
      */
     private void updateStatsDisplay() {
-        StringBuilder statsText = new StringBuilder();
-
-        // Get all persons and groups
-        var personList = logic.getAddressBook().getPersonList();
-        int totalStudents = personList.size();
-
-        // Collect all tags and count them
-        Map<String, Integer> tagCounts = new HashMap<>();
-        for (var person : personList) {
-            for (var tag : person.getTags()) {
-                String tagName = tag.tagName.toLowerCase(); // Case-insensitive counting
-                tagCounts.put(tagName, tagCounts.getOrDefault(tagName, 0) + 1);
+        cancelRendering();
+        statsLines.clear();
+
+        StatsModel stats = logic.getStatsModel().getSnapshot();
+        List<Group> groups = List.copyOf(logic.getAddressBook().getGroupList());
+        logger.fine(() -> "Rendering statistics of " + stats.getPersonCount() + " students in " + groups.size()
+                + " groups");
+        renderTask = new StatsRenderTask(stats, groups);
+        renderTask.setOnFailed(event -> logger.warning("Failed to render statistics: "
+                + StringUtil.getDetails(event.getSource().getException())));
+        renderer.execute(renderTask);
+    }
+
+    /**
+     * Refreshes the statistics once the current changes to the address book are done, if the window is showing.
+     * Several changes in a row, such as those of a single command, lead to a single refresh.
+     */
+    private void scheduleRefresh() {
+        cancelRendering();
+        if (isRefreshScheduled || !isShowing()) {
+            return;
+        }
+        isRefreshScheduled = true;
+        Platform.runLater(() -> {
+            isRefreshScheduled = false;
+            if (isShowing()) {
+                updateStatsDisplay();
             }
+        });
+    }
+
+    private void cancelRendering() {
+        if (renderTask != null) {
+            renderTask.cancel();
+            renderTask = null;
         }
+    }
 
-        // Debug: Log tag information
-        logger.info(() -> "Found " + tagCounts.size() + " unique tags: " + tagCounts.keySet());
-
-        // Sort tags alphabetically
-        List<String> sortedTags = new ArrayList<>(tagCounts.keySet());
-        Collections.sort(sortedTags);
-
-        // Build the statistics text
-        statsText.append("=== TOTAL STATS ===\n");
-        statsText.append("Total Students: ").append(totalStudents).append("\n");
-        statsText.append("Total Unique Tags in use: ").append(tagCounts.size()).append("\n");
-        statsText.append("Tags in use:\n");
-
-        if (sortedTags.isEmpty()) {
-            statsText.append("  (No tags found)\n");
-        } else {
-            for (int i = 0; i < sortedTags.size(); i++) {
-                String tagName = sortedTags.get(i);
-                int count = tagCounts.get(tagName);
-                statsText.append("  ")
-                         .append(i + 1)
-                         .append(". ")
-                         .append(tagName)
-                         .append(": ")
-                         .append(count)
-                         .append("\n");
+    /**
+     * Produces the lines of the statistics, and adds them to the list in batches until it is cancelled.
+     */
+    private class StatsRenderTask extends Task<Void> {
+        private final StatsModel stats;
+        private final List<Group> groups;
+        private List<String> batch = new ArrayList<>();
+
+        StatsRenderTask(StatsModel stats, List<Group> groups) {
+            this.stats = stats;
+            this.groups = groups;
+        }
+
+        @Override
+        protected Void call() {
+            SortedMap<String, Integer> tagCounts = stats.getTagCounts();
+            addLine("=== TOTAL STATS ===");
+            addLine("Total Students: " + stats.getPersonCount());
+            addLine("Total Unique Tags in use: " + tagCounts.size());
+            addLine("Tags in use:");
+            addTagCountLines(tagCounts, "  ");
+
+            addLine("");
+            addLine("=== GROUP STATS ===");
+            if (groups.isEmpty()) {
+                addLine("(No groups found)");
             }
+            for (int i = 0; i < groups.size() && !isCancelled(); i++) {
+                Group group = groups.get(i);
+                SortedMap<String, Integer> groupTagCounts = stats.getTagCountsInGroup(group);
+                addLine("");
+                addLine("Group: " + group.groupName);
+                addLine("  Students: " + stats.getPersonCountInGroup(group));
+                addLine("  Unique Tags: " + groupTagCounts.size());
+                addLine("  Tags:");
+                addTagCountLines(groupTagCounts, "    ");
+            }
+            publishBatch();
+            return null;
         }
 
-        // Add group statistics
-        statsText.append("\n=== GROUP STATS ===\n");
-        var groupList = logic.getAddressBook().getGroupList();
-
-        if (groupList.isEmpty()) {
-            statsText.append("(No groups found)\n");
-        } else {
-            for (var group : groupList) {
-                // Get students in this group
-                List<edutrack.model.person.Person> studentsInGroup = new ArrayList<>();
-                for (var person : personList) {
-                    if (person.getGroups().contains(group)) {
-                        studentsInGroup.add(person);
-                    }
-                }
-                // Count tags for this group
-                Map<String, Integer> groupTagCounts = new HashMap<>();
-                for (var student : studentsInGroup) {
-                    for (var tag : student.getTags()) {
-                        String tagName = tag.tagName.toLowerCase();
-                        groupTagCounts.put(tagName, groupTagCounts.getOrDefault(tagName, 0) + 1);
-                    }
-                }
-                // Sort group tags alphabetically
-                List<String> sortedGroupTags = new ArrayList<>(groupTagCounts.keySet());
-                Collections.sort(sortedGroupTags);
-                // Add group statistics
-                statsText.append("\nGroup: ").append(group.groupName).append("\n");
-                statsText.append("  Students: ").append(studentsInGroup.size()).append("\n");
-                statsText.append("  Unique Tags: ").append(groupTagCounts.size()).append("\n");
-                statsText.append("  Tags:\n");
-                if (sortedGroupTags.isEmpty()) {
-                    statsText.append("    (No tags found)\n");
-                } else {
-                    for (int i = 0; i < sortedGroupTags.size(); i++) {
-                        String tagName = sortedGroupTags.get(i);
-                        int count = groupTagCounts.get(tagName);
-                        statsText.append("    ")
-                                 .append(i + 1)
-                                 .append(". ")
-                                 .append(tagName)
-                                 .append(": ")
-                                 .append(count)
-                                 .append("\n");
-                    }
+        /**
+         * Adds a numbered line for each tag in {@code tagCounts}, in order, or a placeholder if there are none.
+         */
+        private void addTagCountLines(SortedMap<String, Integer> tagCounts, String indent) {
+            if (tagCounts.isEmpty()) {
+                addLine(indent + "(No tags found)");
+                return;
+            }
+            int i = 0;
+            for (Map.Entry<String, Integer> tagCount : tagCounts.entrySet()) {
+                if (isCancelled()) {
+                    return;
                 }
+                addLine(indent + ++i + ". " + tagCount.getKey() + ": " + tagCount.getValue());
             }
         }
-        statsMessage.setText(statsText.toString());
+
+        private void addLine(String line) {
+            batch.add(line);
+            if (batch.size() >= LINE_BATCH_SIZE) {
+                publishBatch();
+            }
+        }
+
+        /**
+         * Adds the lines produced so far to the list on the JavaFX Application Thread, unless cancelled by then.
+         */
+        private void publishBatch() {
+            List<String> lines = batch;
+            batch = new ArrayList<>();
+            Platform.runLater(() -> {
+                if (!isCancelled()) {
+                    statsLines.addAll(lines);
+                }
+            });
+        }
     }
 
 }
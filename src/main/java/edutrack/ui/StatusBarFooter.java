@@ -25,4 +25,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code message} in place of the save location, to report that saving the data failed.
+     */
+    public void showSaveFailure(String message) {
+        saveLocationStatus.setText(message);
+    }
+
 }
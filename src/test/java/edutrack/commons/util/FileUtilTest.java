@@ -1,13 +1,22 @@
 package edutrack.commons.util;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,58 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_createsFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutLeavingFiles() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_keepsPreviousContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileWithBackup(file, "first");
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeToFileWithBackup(file, "second");
+        FileUtil.writeToFileWithBackup(file, "third");
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void isDataFileOrCompanion() throws Exception {
+        Path dataFile = testFolder.resolve("data.json");
+
+        // the data file, its backup and its journal, however they are written -> returns true
+        assertTrue(FileUtil.isDataFileOrCompanion(dataFile, dataFile));
+        assertTrue(FileUtil.isDataFileOrCompanion(testFolder.resolve("data.json.bak"), dataFile));
+        assertTrue(FileUtil.isDataFileOrCompanion(testFolder.resolve("data.json.journal"), dataFile));
+        assertTrue(FileUtil.isDataFileOrCompanion(testFolder.resolve("sub").resolve("..").resolve("data.json"),
+                dataFile));
+
+        // a link to the data file -> returns true
+        FileUtil.writeToFile(dataFile, "data");
+        Path link = testFolder.resolve("link.json");
+        Files.createLink(link, dataFile);
+        assertTrue(FileUtil.isDataFileOrCompanion(link, dataFile));
+
+        // other files -> returns false
+        assertFalse(FileUtil.isDataFileOrCompanion(testFolder.resolve("export.json"), dataFile));
+        assertFalse(FileUtil.isDataFileOrCompanion(testFolder.resolve("data.json.tmp"), dataFile));
+    }
 }
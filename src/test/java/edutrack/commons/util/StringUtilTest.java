@@ -1,10 +1,12 @@
 package edutrack.commons.util;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,69 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_sameResultAsEqualsIgnoreCase() {
+        List<String> words = List.of("alice", "ALICE", "aLiCe", "alicf", "stra\u00dfe", "STRASSE",
+                "\u0130", "i", "I", "\u0131", "\u03a3", "\u03c3", "\u03c2", "\u00c9", "\u00e9", "e", "\u212a", "k");
+        for (String first : words) {
+            for (String second : words) {
+                assertEquals(first.length() == second.length() && first.equalsIgnoreCase(second),
+                        first.length() == second.length()
+                                && StringUtil.foldCase(first).equals(StringUtil.foldCase(second)),
+                        first + " " + second);
+            }
+        }
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMaximum_exactDistance() {
+        assertEquals(0, StringUtil.getEditDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.getEditDistance("alcie", "alice", 2)); // swap
+        assertEquals(1, StringUtil.getEditDistance("alic", "alice", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alce", 2)); // deletion
+        assertEquals(1, StringUtil.getEditDistance("alice", "alica", 2)); // substitution
+        assertEquals(2, StringUtil.getEditDistance("", "ab", 2));
+        assertEquals(3, StringUtil.getEditDistance("ca", "abc", 3)); // a swapped pair is not edited again
+    }
+
+    @Test
+    public void getEditDistance_beyondMaximum_returnsMaximumPlusOne() {
+        assertEquals(3, StringUtil.getEditDistance("tan", "lim", 2));
+        assertEquals(1, StringUtil.getEditDistance("alcie", "alice", 0));
+        assertEquals(2, StringUtil.getEditDistance("al", "alice", 1)); // lengths differ too much
+    }
+
+    @Test
+    public void getEditDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "a", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("a", "a", -1));
+    }
+
+    //---------------- Tests for isValidLabelName --------------------------------------
+
+    @Test
+    public void isValidLabelName() {
+        // EP: empty or too long
+        assertFalse(StringUtil.isValidLabelName("", 5)); // Boundary value
+        assertFalse(StringUtil.isValidLabelName("abcdef", 5)); // Boundary value
+
+        // EP: characters other than ASCII letters, digits, '_', '-' and '/'
+        assertFalse(StringUtil.isValidLabelName("a b", 5));
+        assertFalse(StringUtil.isValidLabelName("a.b", 5));
+        assertFalse(StringUtil.isValidLabelName("\u00e9t\u00e9", 5));
+
+        // EP: valid names, same as the regex
+        assertTrue(StringUtil.isValidLabelName("a", 5)); // Boundary value
+        assertTrue(StringUtil.isValidLabelName("abcde", 5)); // Boundary value
+        for (String name : List.of("CS2103", "T_1", "year-2", "a/b", "_-/")) {
+            assertEquals(name.matches("[\\p{Alnum}_\\-/]+"), StringUtil.isValidLabelName(name, 10));
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,124 @@
+package edutrack.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics().getSummary());
+    }
+
+    @Test
+    public void record_commandsWithSameWord_aggregated() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        recordCommand(commandMetrics, "add");
+        recordCommand(commandMetrics, "add");
+        recordCommand(commandMetrics, "list");
+        commandMetrics.recordBytesWritten("add", 300);
+
+        assertEquals(2, commandMetrics.getCommandCount("add"));
+        assertEquals(1, commandMetrics.getCommandCount("list"));
+        assertEquals(0, commandMetrics.getCommandCount("delete"));
+        assertEquals(300, commandMetrics.getBytesWritten("add"));
+
+        String summary = commandMetrics.getSummary();
+        assertTrue(summary.startsWith(CommandMetrics.MESSAGE_SUMMARY_HEADER));
+        assertTrue(summary.contains("\nadd: 2 run(s), "));
+        assertTrue(summary.contains(", 150 bytes written, "));
+        assertTrue(summary.contains("\nlist: 1 run(s), "));
+    }
+
+    @Test
+    public void record_failedCommand_recordedWithoutAllPhases() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        CommandMetrics.Measurement measurement = commandMetrics.startMeasurement();
+        measurement.endPhase();
+
+        commandMetrics.record("delete", measurement);
+
+        assertEquals(1, commandMetrics.getCommandCount("delete"));
+    }
+
+    @Test
+    public void dumpToCsv_noCsvFile_doesNothing() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        recordCommand(commandMetrics, "add");
+        commandMetrics.dumpToCsv();
+    }
+
+    @Test
+    public void dumpToCsv_appendsTotals() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("metrics.csv");
+        CommandMetrics commandMetrics = new CommandMetrics(csvFilePath);
+
+        // nothing is written until a command has been recorded
+        commandMetrics.dumpToCsv();
+        assertFalse(Files.exists(csvFilePath));
+
+        recordCommand(commandMetrics, "add");
+        commandMetrics.dumpToCsv();
+        recordCommand(commandMetrics, "list");
+        commandMetrics.dumpToCsv();
+
+        List<String> lines = Files.readAllLines(csvFilePath);
+        assertEquals(4, lines.size());
+        assertEquals(CommandMetrics.CSV_HEADER, lines.get(0));
+        assertTrue(lines.get(1).contains(",add,1,"));
+        assertTrue(lines.get(2).contains(",add,1,"));
+        assertTrue(lines.get(3).contains(",list,1,"));
+        for (String line : lines) {
+            assertEquals(CommandMetrics.CSV_HEADER.split(",").length, line.split(",").length);
+        }
+    }
+
+    @Test
+    public void record_dumpDue_appendsInBackgroundInOrder() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("metrics.csv");
+        CommandMetrics commandMetrics = new CommandMetrics(csvFilePath, 0);
+
+        recordCommand(commandMetrics, "add");
+        recordCommand(commandMetrics, "list");
+        // waits for the appends made in the background, which come before its own
+        commandMetrics.dumpToCsv();
+
+        List<String> lines = Files.readAllLines(csvFilePath);
+        assertEquals(CommandMetrics.CSV_HEADER, lines.get(0));
+        assertEquals(List.of("add", "add", "list", "add", "list"),
+                lines.subList(1, lines.size()).stream().map(line -> line.split(",")[1]).toList());
+    }
+
+    @Test
+    public void dumpToCsv_fullFile_rolledOver() throws Exception {
+        Path csvFilePath = temporaryFolder.resolve("metrics.csv");
+        Files.writeString(csvFilePath, "x".repeat((int) CommandMetrics.MAX_CSV_FILE_SIZE_IN_BYTES + 1));
+        CommandMetrics commandMetrics = new CommandMetrics(csvFilePath);
+        recordCommand(commandMetrics, "add");
+
+        commandMetrics.dumpToCsv();
+
+        assertEquals(CommandMetrics.MAX_CSV_FILE_SIZE_IN_BYTES + 1,
+                Files.size(CommandMetrics.getRolledOverCsvFilePath(csvFilePath)));
+        assertEquals(CommandMetrics.CSV_HEADER, Files.readAllLines(csvFilePath).get(0));
+    }
+
+    private static void recordCommand(CommandMetrics commandMetrics, String commandWord) {
+        CommandMetrics.Measurement measurement = commandMetrics.startMeasurement();
+        measurement.endPhase();
+        measurement.endPhase();
+        measurement.endPhase();
+        commandMetrics.record(commandWord, measurement);
+    }
+}
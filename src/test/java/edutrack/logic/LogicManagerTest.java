@@ -9,18 +9,26 @@ import static edutrack.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import edutrack.commons.util.FileUtil;
 import edutrack.logic.commands.AddCommand;
 import edutrack.logic.commands.CommandResult;
+import edutrack.logic.commands.ExportCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.MetricsCommand;
+import edutrack.logic.commands.StatsExportCommand;
 import edutrack.logic.commands.exceptions.CommandException;
 import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.Model;
@@ -82,6 +90,97 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(ListCommand.COMMAND_WORD);
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(0, logicManager.getSaveCount());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_mutatingCommand_saves() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(1, logicManager.getSaveCount());
+        assertEquals(0, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_exportCommand_writesJsonFile() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        Path exportPath = temporaryFolder.resolve("export.json");
+
+        logicManager.execute(ExportCommand.COMMAND_WORD + " " + exportPath);
+
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(exportPath).readAddressBook().get());
+        // exporting does not change the address book, so it is not saved again
+        assertEquals(1, logicManager.getSaveCount());
+    }
+
+    @Test
+    public void execute_exportToDataFileOrCompanion_throwsCommandException() {
+        Path dataFilePath = temporaryFolder.resolve("addressBook.json");
+        for (Path filePath : List.of(dataFilePath, dataFilePath.toAbsolutePath(),
+                FileUtil.getBackupPath(dataFilePath), FileUtil.getJournalPath(dataFilePath))) {
+            assertCommandException(ExportCommand.COMMAND_WORD + " " + filePath,
+                    String.format(Messages.MESSAGE_DATA_FILE_TARGET, filePath));
+            assertFalse(Files.exists(filePath));
+        }
+
+        assertCommandException(StatsExportCommand.COMMAND_WORD + " " + dataFilePath,
+                String.format(Messages.MESSAGE_DATA_FILE_TARGET, dataFilePath));
+        assertFalse(Files.exists(dataFilePath));
+    }
+
+    @Test
+    public void execute_statsExportCommand_writesReport() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        Path exportPath = temporaryFolder.resolve("stats.csv");
+
+        CommandResult result = logicManager.execute(StatsExportCommand.COMMAND_WORD + " " + exportPath);
+
+        assertEquals(String.format(StatsExportCommand.MESSAGE_SUCCESS, 1, exportPath), result.getFeedbackToUser());
+        assertEquals("group,students\n(all),1\n", FileUtil.readFromFile(exportPath));
+    }
+
+    @Test
+    public void execute_commands_recordedInMetrics() throws Exception {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logicManager.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logicManager.execute("uicfhmowqewca"));
+        assertThrows(ParseException.class, () -> logicManager.execute("   "));
+        assertThrows(ParseException.class, () -> logicManager.execute(AddCommand.COMMAND_WORD + " n/"));
+
+        CommandMetrics commandMetrics = logicManager.getCommandMetrics();
+        assertEquals(2, commandMetrics.getCommandCount(AddCommand.COMMAND_WORD));
+        assertEquals(1, commandMetrics.getCommandCount(ListCommand.COMMAND_WORD));
+        // failed commands are measured too, and input that names no command is measured under one word
+        assertEquals(1, commandMetrics.getCommandCount("delete"));
+        assertEquals(2, commandMetrics.getCommandCount(CommandMetrics.UNKNOWN_COMMAND_WORD));
+        assertEquals(0, commandMetrics.getCommandCount("uicfhmowqewca"));
+        // only the add command changed the address book, so only it wrote to the data file
+        assertTrue(commandMetrics.getBytesWritten(AddCommand.COMMAND_WORD) > 0);
+        assertEquals(0, commandMetrics.getBytesWritten(ListCommand.COMMAND_WORD));
+
+        // the summary includes the metrics command itself
+        String feedback = logicManager.execute(MetricsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertEquals(commandMetrics.getSummary(), feedback);
+        assertEquals(1, commandMetrics.getCommandCount(MetricsCommand.COMMAND_WORD));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
+import edutrack.logic.commands.CommandResult.ExportContent;
+
 public class CommandResultTest {
     @Test
     public void equals() {
@@ -15,6 +19,7 @@ public class CommandResultTest {
         // same values -> returns true
         assertTrue(commandResult.equals(new CommandResult("feedback")));
         assertTrue(commandResult.equals(new CommandResult("feedback", false, false, false)));
+        assertTrue(commandResult.equals(new CommandResult("feedback", false, false, false, false)));
 
         // same object -> returns true
         assertTrue(commandResult.equals(commandResult));
@@ -33,6 +38,18 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true, false)));
+
+        // different showMetrics value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", false, false, false, true)));
+
+        // different exportFilePath value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", Paths.get("export.json"))));
+        assertTrue(new CommandResult("feedback", Paths.get("export.json"))
+                .equals(new CommandResult("feedback", Paths.get("export.json"))));
+
+        // different exportContent value -> returns false
+        assertFalse(new CommandResult("feedback", Paths.get("export.json")).equals(
+                new CommandResult("feedback", Paths.get("export.json"), ExportContent.STATISTICS)));
     }
 
     @Test
@@ -57,7 +74,9 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
-                + ", exit=" + commandResult.isExit() + ", showStats=" + commandResult.isShowStats() + "}";
+                + ", exit=" + commandResult.isExit() + ", showStats=" + commandResult.isShowStats()
+                + ", showMetrics=" + commandResult.isShowMetrics() + ", exportFilePath=null"
+                + ", exportContent=null}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,47 @@
+package edutrack.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.ModelManager;
+
+public class ExportCommandTest {
+
+    @Test
+    public void execute_asksForExport() throws Exception {
+        Path filePath = Paths.get("export.json");
+        CommandResult expectedResult = new CommandResult(
+                String.format(ExportCommand.MESSAGE_SUCCESS, filePath), filePath);
+
+        CommandResult result = new ExportCommand(filePath).execute(new ModelManager());
+
+        assertEquals(expectedResult, result);
+        assertEquals(filePath, result.getExportFilePath().get());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("export.json"));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("export.json"))));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("other.json"))));
+    }
+}
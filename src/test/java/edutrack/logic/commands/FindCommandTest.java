@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,11 @@ import edutrack.model.Model;
 import edutrack.model.ModelManager;
 import edutrack.model.UserPrefs;
 import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.NameIsSimilarToKeywordsPredicate;
+import edutrack.model.person.NameStartsWithKeywordsPredicate;
+import edutrack.model.person.Person;
+import edutrack.testutil.AddressBookBuilder;
+import edutrack.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +80,25 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_rankedPredicate_closestMatchesFirst() {
+        Person alicia = new PersonBuilder().withName("Alicia Tan").build();
+        Person alice = new PersonBuilder().withName("Alice Lim").build();
+        Person ali = new PersonBuilder().withName("Ali Khan").build();
+        Model rankedModel = new ModelManager(
+                new AddressBookBuilder().withPerson(alicia).withPerson(alice).withPerson(ali).build(), new UserPrefs());
+
+        new FindCommand(new NameStartsWithKeywordsPredicate(List.of("ali*"))).execute(rankedModel);
+        assertEquals(List.of(ali, alice, alicia), rankedModel.getFilteredPersonList());
+
+        new FindCommand(new NameIsSimilarToKeywordsPredicate(List.of("alcie"))).execute(rankedModel);
+        assertEquals(List.of(alice), rankedModel.getFilteredPersonList());
+
+        // other finds keep the order of the address book
+        new FindCommand(preparePredicate("Khan Tan")).execute(rankedModel);
+        assertEquals(List.of(alicia, ali), rankedModel.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
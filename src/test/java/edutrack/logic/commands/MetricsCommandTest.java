@@ -0,0 +1,16 @@
+package edutrack.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.ModelManager;
+
+public class MetricsCommandTest {
+
+    @Test
+    public void execute_asksForMetrics() {
+        CommandResult expectedResult = new CommandResult(MetricsCommand.MESSAGE_SUCCESS, false, false, false, true);
+        assertEquals(expectedResult, new MetricsCommand().execute(new ModelManager()));
+    }
+}
@@ -0,0 +1,73 @@
+package edutrack.logic.commands;
+
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edutrack.logic.commands.CommandResult.ExportContent;
+import edutrack.model.AddressBook;
+import edutrack.model.Model;
+import edutrack.model.ModelManager;
+import edutrack.model.UserPrefs;
+import edutrack.model.group.Group;
+import edutrack.testutil.AddressBookBuilder;
+
+public class StatsExportCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(DANIEL)
+                .build();
+        addressBook.addGroup(new Group("CS2040S"));
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_asksForStatisticsExport() {
+        Path filePath = Paths.get("data", "stats.csv");
+
+        CommandResult result = new StatsExportCommand(filePath).execute(model);
+
+        assertEquals(new CommandResult(String.format(StatsExportCommand.MESSAGE_SUCCESS, 3, filePath), filePath,
+                ExportContent.STATISTICS), result);
+    }
+
+    @Test
+    public void isSupportedFile() {
+        assertTrue(StatsExportCommand.isSupportedFile(Paths.get("stats.csv")));
+        assertTrue(StatsExportCommand.isSupportedFile(Paths.get("data", "stats.Json")));
+        assertFalse(StatsExportCommand.isSupportedFile(Paths.get("stats.txt")));
+        assertFalse(StatsExportCommand.isSupportedFile(Paths.get("csv")));
+    }
+
+    @Test
+    public void equals() {
+        StatsExportCommand statsExportCommand = new StatsExportCommand(Paths.get("stats.csv"));
+
+        // same object -> returns true
+        assertTrue(statsExportCommand.equals(statsExportCommand));
+
+        // same values -> returns true
+        assertTrue(statsExportCommand.equals(new StatsExportCommand(Paths.get("stats.csv"))));
+
+        // different types -> returns false
+        assertFalse(statsExportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsExportCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(statsExportCommand.equals(new StatsExportCommand(Paths.get("stats.json"))));
+    }
+}
@@ -7,6 +7,7 @@ import static edutrack.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,10 +20,13 @@ import edutrack.logic.commands.DeleteCommand;
 import edutrack.logic.commands.EditCommand;
 import edutrack.logic.commands.EditCommand.EditPersonDescriptor;
 import edutrack.logic.commands.ExitCommand;
+import edutrack.logic.commands.ExportCommand;
 import edutrack.logic.commands.FindCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.MetricsCommand;
 import edutrack.logic.commands.SortCommand;
+import edutrack.logic.commands.StatsExportCommand;
 import edutrack.logic.parser.exceptions.ParseException;
 import edutrack.model.person.NameContainsKeywordsPredicate;
 import edutrack.model.person.Person;
@@ -89,6 +93,24 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, () -> parser.parseCommand(ListCommand.COMMAND_WORD + " 3"));
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("data", "export.json")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " data/export.json"));
+    }
+
+    @Test
+    public void parseCommand_statsExport() throws Exception {
+        assertEquals(new StatsExportCommand(Paths.get("data", "stats.csv")),
+                parser.parseCommand(StatsExportCommand.COMMAND_WORD + " data/stats.csv"));
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_sort() throws Exception {
         assertTrue(parser.parseCommand(SortCommand.COMMAND_WORD) instanceof SortCommand);
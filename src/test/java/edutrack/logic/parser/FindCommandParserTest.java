@@ -1,16 +1,28 @@
 package edutrack.logic.parser;
 
 import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CliSyntax.PREFIX_GROUP;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NAME;
+import static edutrack.logic.parser.CliSyntax.PREFIX_NOTE;
+import static edutrack.logic.parser.CliSyntax.PREFIX_SIMILAR_NAME;
 import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import edutrack.logic.Messages;
 import edutrack.logic.commands.FindCommand;
 import edutrack.model.person.GroupNameContainsKeywordsPredicate;
 import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.NameIsSimilarToKeywordsPredicate;
+import edutrack.model.person.NameStartsWithKeywordsPredicate;
+import edutrack.model.person.NoteMatchesQueryPredicate;
+import edutrack.model.person.PersonHasTagPredicate;
+import edutrack.model.person.PersonMatchesAllPredicate;
+import edutrack.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -38,22 +50,74 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_multiplePrefixes_throwsParseException() {
-        // name + group
-        assertParseFailure(parser, "n/Alice g/CS2103T", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+    public void parse_wildcardKeywords_returnsPrefixFindCommand() {
+        FindCommand expectedCommand =
+                new FindCommand(new NameStartsWithKeywordsPredicate(Arrays.asList("ali*", "Tan")));
+        assertParseSuccess(parser, "n/ali* Tan", expectedCommand);
 
-        // group + name
-        assertParseFailure(parser, "g/CS2103T n/Alice", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+        // a wildcard on its own matches every name
+        assertParseFailure(parser, "n/ali *", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_similarNameKeywords_returnsFuzzyFindCommand() {
+        FindCommand expectedCommand =
+                new FindCommand(new NameIsSimilarToKeywordsPredicate(Arrays.asList("alcie", "tna")));
+        assertParseSuccess(parser, "~n/alcie  tna", expectedCommand);
+
+        assertParseFailure(parser, "~n/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "~n/alcie ~n/Alice", Messages.getErrorMessageForDuplicatePrefixes(
+                PREFIX_SIMILAR_NAME));
+    }
+
+    @Test
+    public void parse_noteQuery_returnsNoteFindCommand() {
+        FindCommand expectedCommand = new FindCommand(new NoteMatchesQueryPredicate(
+                List.of(List.of("missed", "past deadline"), List.of("absent"))));
+        assertParseSuccess(parser, "no/missed \"past deadline\" OR absent", expectedCommand);
+        assertParseSuccess(parser, "no/ missed AND \" past deadline \"  OR  absent", expectedCommand);
+
+        // OR and AND inside a phrase are words to search for
+        assertParseSuccess(parser, "no/\"absent OR late\"",
+                new FindCommand(new NoteMatchesQueryPredicate(List.of(List.of("absent OR late")))));
+    }
 
+    @Test
+    public void parse_invalidNoteQuery_throwsParseException() {
+        assertParseFailure(parser, "no/\"past deadline", FindCommandParser.MESSAGE_UNCLOSED_PHRASE);
+        assertParseFailure(parser, "no/absent OR", FindCommandParser.MESSAGE_EMPTY_ALTERNATIVE);
+        assertParseFailure(parser, "no/OR absent", FindCommandParser.MESSAGE_EMPTY_ALTERNATIVE);
+        assertParseFailure(parser, "no/absent \"...\"", FindCommandParser.MESSAGE_EMPTY_ALTERNATIVE);
+        assertParseFailure(parser, "no/AND", FindCommandParser.MESSAGE_EMPTY_ALTERNATIVE);
+        assertParseFailure(parser, "no/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "no/absent no/late", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NOTE));
+    }
+
+    @Test
+    public void parse_multiplePrefixes_returnsConjunction() {
+        FindCommand expectedCommand = new FindCommand(new PersonMatchesAllPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("Alice")),
+                new GroupNameContainsKeywordsPredicate(List.of("CS2103T")),
+                new PersonHasTagPredicate(new Tag("weak")))));
+        assertParseSuccess(parser, "n/Alice g/CS2103T t/weak", expectedCommand);
+
+        // clauses are in a fixed order, whatever the order of the prefixes
+        assertParseSuccess(parser, "t/weak g/CS2103T n/Alice", expectedCommand);
+    }
+
+    @Test
+    public void parse_tag_returnsTagFindCommand() {
+        assertParseSuccess(parser, "t/weak", new FindCommand(new PersonHasTagPredicate(new Tag("weak"))));
+        assertParseFailure(parser, "t/weak late", Tag.MESSAGE_CONSTRAINTS);
     }
 
     @Test
     public void parse_repeatedSamePrefix_throwsParseException() {
         // repeated name prefix
-        assertParseFailure(parser, "n/Alice n/Bob", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+        assertParseFailure(parser, "n/Alice n/Bob", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NAME));
 
         // repeated group prefix
-        assertParseFailure(parser, "g/CS2103T g/CS2101", FindCommandParser.MESSAGE_SINGLE_PARAMETER_ONLY);
+        assertParseFailure(parser, "g/CS2103T g/CS2101", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_GROUP));
     }
 
     @Test
@@ -13,6 +13,7 @@ import edutrack.logic.commands.ExitCommand;
 import edutrack.logic.commands.GroupListCommand;
 import edutrack.logic.commands.HelpCommand;
 import edutrack.logic.commands.ListCommand;
+import edutrack.logic.commands.MetricsCommand;
 import edutrack.logic.commands.StatsCommand;
 import edutrack.logic.commands.TagListCommand;
 import edutrack.logic.parser.exceptions.ParseException;
@@ -91,6 +92,16 @@ public class SingularCommandParserTest {
         assertThrows(ParseException.class, () -> parser.parse(StatsCommand.COMMAND_WORD + " 3"));
     }
 
+    @Test
+    public void parse_metrics_success() throws Exception {
+        assertTrue(parser.parse(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parse_metricsExtraArgs_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(MetricsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parse_emptyInput_throwsParseExceptionWithUsageMessage() {
         ParseException e = assertThrows(ParseException.class, () -> parser.parse(""));
@@ -0,0 +1,42 @@
+package edutrack.logic.parser;
+
+import static edutrack.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static edutrack.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.logic.commands.StatsExportCommand;
+
+public class StatsExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsExportCommand.MESSAGE_USAGE);
+
+    private StatsExportCommandParser parser = new StatsExportCommandParser();
+
+    @Test
+    public void parse_validPath_returnsStatsExportCommand() {
+        assertParseSuccess(parser, " stats.csv ", new StatsExportCommand(Paths.get("stats.csv")));
+        assertParseSuccess(parser, " data/weekly stats.json",
+                new StatsExportCommand(Paths.get("data", "weekly stats.json")));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "stats\0.csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "stats.txt", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "data/", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -4,24 +4,33 @@ import static edutrack.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static edutrack.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
 import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import edutrack.commons.util.StringUtil;
 import edutrack.model.group.Group;
 import edutrack.model.person.Person;
 import edutrack.model.person.exceptions.DuplicatePersonException;
 import edutrack.model.tag.Tag;
+import edutrack.model.util.SyntheticDataUtil;
 import edutrack.testutil.PersonBuilder;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 public class AddressBookTest {
@@ -80,6 +89,171 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithTag_addSetRemovePerson_indexStaysConsistent() {
+        Tag friends = new Tag("friends");
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), addressBook.getPersonsWithTag(new Tag("FRIENDS")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithTag(friends));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsWithTag(husband));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithTag(husband));
+    }
+
+    @Test
+    public void getPersonsInGroup_resetData_indexRebuilt() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInGroup(new Group("CS2103T")));
+
+        addressBook.resetData(getTypicalAddressBook());
+        List<Person> expectedMembers = addressBook.getPersonList().stream()
+                .filter(person -> person.getGroups().contains(new Group("CS2103T")))
+                .collect(Collectors.toList());
+        assertEquals(new HashSet<>(expectedMembers),
+                new HashSet<>(addressBook.getPersonsInGroup(new Group("cs2103t"))));
+    }
+
+    @Test
+    public void countPersons_typicalAddressBook_sameAsSnapshotSizes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person aliceWithNote = new PersonBuilder(ALICE).withNote("Late for tutorial twice.").build();
+        addressBook.setPerson(ALICE, aliceWithNote);
+
+        assertEquals(addressBook.getPersonsWithTag(new Tag("friends")).size(),
+                addressBook.countPersonsWithTag(new Tag("FRIENDS")));
+        assertEquals(addressBook.getPersonsInGroup(new Group("CS2103T")).size(),
+                addressBook.countPersonsInGroup(new Group("cs2103t")));
+        assertEquals(2, addressBook.countPersonsWithNameWord("MEIER"));
+        assertEquals(1, addressBook.countPersonsWithNoteWord("Tutorial"));
+        assertEquals(0, addressBook.countPersonsWithNameWord("nobody"));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_addSetRemovePerson_indexStaysConsistent() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), addressBook.getPersonsWithNameWord("pAULINE"));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithNameWord("Paul"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithNameWord("Pauline"));
+        assertEquals(List.of(editedAlice), addressBook.getPersonsWithNameWord("alice"));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithNameWord("alice"));
+    }
+
+    @Test
+    public void getPersonsWithNoteWord_addSetRemovePerson_indexStaysConsistent() {
+        Person aliceWithNote = new PersonBuilder(ALICE).withNote("Late for tutorial twice.").build();
+        addressBook.addPerson(aliceWithNote);
+        assertEquals(List.of(aliceWithNote), addressBook.getPersonsWithNoteWord("TUTORIAL"));
+
+        // a new note replaces the words of the old one, as when a note is created or deleted
+        Person aliceWithNewNote = new PersonBuilder(ALICE).withNote("Consultation booked.").build();
+        addressBook.setPerson(aliceWithNote, aliceWithNewNote);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithNoteWord("tutorial"));
+        assertEquals(List.of(aliceWithNewNote), addressBook.getPersonsWithNoteWord("booked"));
+
+        addressBook.removePerson(aliceWithNewNote);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsWithNoteWord("booked"));
+    }
+
+    @Test
+    public void getNameWordsStartingWith_addSetRemovePerson_indexStaysConsistent() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of("meier", "meyer"), addressBook.getNameWordsStartingWith("ME"));
+        assertEquals(Set.of("meier"), addressBook.getNameWordsStartingWith("meie"));
+        assertEquals(Collections.emptySet(), addressBook.getNameWordsStartingWith("eier"));
+
+        // Daniel Meier still has the word after Benson Meier is removed
+        addressBook.removePerson(BENSON);
+        assertEquals(Set.of("meier", "meyer"), addressBook.getNameWordsStartingWith("me"));
+        addressBook.addPerson(new PersonBuilder().withName("Mehmet Ali").build());
+        assertEquals(Set.of("meier", "meyer", "mehmet"), addressBook.getNameWordsStartingWith("me"));
+        assertEquals(Set.of("alice", "ali"), addressBook.getNameWordsStartingWith("a"));
+    }
+
+    @Test
+    public void getNameWordsStartingWith_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> addressBook.getNameWordsStartingWith(""));
+    }
+
+    @Test
+    public void estimatePersonsWithNameWordStartingWith_addRemovePerson_boundsMatchingPersons() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(3, addressBook.estimatePersonsWithNameWordStartingWith("ME"));
+        assertEquals(2, addressBook.estimatePersonsWithNameWordStartingWith("mei"));
+        assertEquals(0, addressBook.estimatePersonsWithNameWordStartingWith("eier"));
+
+        addressBook.removePerson(BENSON);
+        assertEquals(2, addressBook.estimatePersonsWithNameWordStartingWith("me"));
+        assertThrows(IllegalArgumentException.class, () -> addressBook.estimatePersonsWithNameWordStartingWith(""));
+    }
+
+    @Test
+    public void getNameWordsNear_misspeltWords_foundWithDistance() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Map.of("alice", 1), addressBook.getNameWordsNear("Alcie", 1));
+        assertEquals(Map.of("meier", 0, "meyer", 1), addressBook.getNameWordsNear("meier", 1));
+        assertEquals(Collections.emptyMap(), addressBook.getNameWordsNear("mayor", 1));
+        assertEquals(Map.of("meier", 2, "meyer", 1), addressBook.getNameWordsNear("mayer", 2).entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("me"))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.emptyMap(), addressBook.getNameWordsNear("Alcie", 1));
+    }
+
+    @Test
+    public void getNameWordsNear_sameAsComparingEveryWord() {
+        addressBook.resetData(SyntheticDataUtil.getSyntheticAddressBook(500, 3));
+        Set<String> words = addressBook.getPersonList().stream()
+                .flatMap(person -> person.getName().getFoldedWords().stream())
+                .collect(Collectors.toSet());
+        for (String query : List.of("ale", "alx", "priay", "balakrishan", "oliviero", "mei", "ng", "12")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                int distanceBound = maxDistance;
+                Map<String, Integer> expected = words.stream()
+                        .filter(word -> StringUtil.getEditDistance(query, word, distanceBound) <= distanceBound)
+                        .collect(Collectors.toMap(word -> word,
+                            word -> StringUtil.getEditDistance(query, word, distanceBound)));
+                assertEquals(expected, addressBook.getNameWordsNear(query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void getPersonsWithNameWord_personsAddedAfterReset_indexed() {
+        addressBook.resetData(getTypicalAddressBook());
+        // the index is built from the persons at the time of the first query, not at the time of the reset
+        addressBook.addPerson(new PersonBuilder().withName("Hoon Meier").build());
+        addressBook.removePerson(BENSON);
+
+        assertEquals(List.of("Daniel Meier", "Hoon Meier"), addressBook.getPersonsWithNameWord("meier").stream()
+                .map(person -> person.getName().fullName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getModificationCount_personsListChanged_countChangedFirst() {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        List<Long> countsSeenByListener = new ArrayList<>();
+        persons.addListener((ListChangeListener<Person>) change ->
+                countsSeenByListener.add(addressBook.getModificationCount()));
+
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+
+        assertEquals(List.of(addressBook.getModificationCount()), countsSeenByListener);
+        assertTrue(addressBook.getModificationCount() != initialCount);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -117,6 +291,61 @@ public class AddressBookTest {
         public ObservableList<Tag> getTagList() {
             return FXCollections.unmodifiableObservableList(tags);
         }
+
+        @Override
+        public List<Person> getPersonsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNameWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithNoteWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithNameWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithNoteWord(String word) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getNameWordsStartingWith(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int estimatePersonsWithNameWordStartingWith(String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getNameWordsNear(String word, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -4,6 +4,9 @@ import static edutrack.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
 import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,12 +14,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import edutrack.commons.core.GuiSettings;
 import edutrack.model.person.NameContainsKeywordsPredicate;
+import edutrack.model.person.Person;
 import edutrack.testutil.AddressBookBuilder;
+import edutrack.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +99,24 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_tracksLaterChanges() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+
+        // persons that replace those of the search are tested against the keywords
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Tan").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(renamedCarl)
+                .withPerson(renamedDaniel).build());
+
+        assertEquals(List.of(renamedCarl), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
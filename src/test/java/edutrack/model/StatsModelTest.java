@@ -0,0 +1,168 @@
+package edutrack.model;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.model.util.SyntheticDataUtil;
+import edutrack.testutil.PersonBuilder;
+
+public class StatsModelTest {
+
+    private static final Group CS2103T = new Group("CS2103T");
+    private static final Group CS2101 = new Group("CS2101");
+
+    private final AddressBook addressBook = new AddressBook();
+    private final StatsModel stats = new StatsModel(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsModel(null));
+    }
+
+    @Test
+    public void constructor_existingPersons_counted() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertStatsMatch(typicalAddressBook, new StatsModel(typicalAddressBook.getPersonList()));
+    }
+
+    @Test
+    public void getTagCounts_emptyAddressBook_empty() {
+        assertEquals(0, stats.getPersonCount());
+        assertEquals(Map.of(), stats.getTagCounts());
+        assertEquals(0, stats.getPersonCountInGroup(CS2103T));
+        assertEquals(Map.of(), stats.getTagCountsInGroup(CS2103T));
+    }
+
+    @Test
+    public void getTagCounts_personsAdded_countedOverallAndPerGroup() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(DANIEL);
+
+        assertEquals(3, stats.getPersonCount());
+        assertEquals(Map.of("friends", 3, "owesmoney", 1), stats.getTagCounts());
+        assertEquals(2, stats.getPersonCountInGroup(CS2103T));
+        assertEquals(Map.of("friends", 2), stats.getTagCountsInGroup(CS2103T));
+        assertEquals(2, stats.getPersonCountInGroup(new Group("cs2101")));
+        assertEquals(Map.of("friends", 2, "owesmoney", 1), stats.getTagCountsInGroup(CS2101));
+        assertEquals(List.of("friends", "owesmoney"), List.copyOf(stats.getTagCounts().keySet()));
+    }
+
+    @Test
+    public void getTagCounts_personEdited_oldTagsAndGroupsUncounted() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withTags("Lab").withGroup("CS2103T").build();
+        addressBook.setPerson(BENSON, editedBenson);
+
+        assertEquals(Map.of("friends", 1, "lab", 1), stats.getTagCounts());
+        assertEquals(0, stats.getPersonCountInGroup(CS2101));
+        assertEquals(Map.of(), stats.getTagCountsInGroup(CS2101));
+        assertEquals(Map.of("friends", 1, "lab", 1), stats.getTagCountsInGroup(CS2103T));
+    }
+
+    @Test
+    public void getTagCounts_personRemoved_unusedTagsDropped() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(1, stats.getPersonCount());
+        assertEquals(Map.of("friends", 1), stats.getTagCounts());
+        assertEquals(0, stats.getPersonCountInGroup(CS2101));
+    }
+
+    @Test
+    public void getTagCounts_dataResetAndSorted_matchesRecount() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        assertStatsMatch(addressBook, stats);
+
+        addressBook.sortPersonList();
+        assertStatsMatch(addressBook, stats);
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(0, stats.getPersonCount());
+        assertEquals(Map.of(), stats.getTagCounts());
+    }
+
+    @Test
+    public void getTagCounts_randomEdits_matchesRecount() {
+        addressBook.resetData(SyntheticDataUtil.getSyntheticAddressBook(300, 1));
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            List<Person> persons = addressBook.getPersonList();
+            Person target = persons.get(random.nextInt(persons.size()));
+            Person other = persons.get(random.nextInt(persons.size()));
+            if (i % 3 == 0) {
+                addressBook.removePerson(target);
+                addressBook.addPerson(target);
+            } else {
+                // take the tags and groups of another person, which may be the same
+                addressBook.setPerson(target, new Person(target.getName(), target.getPhone(), target.getEmail(),
+                        target.getAddress(), other.getTags(), other.getGroups(), target.getNote()));
+            }
+        }
+        assertStatsMatch(addressBook, stats);
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        StatsModel snapshot = stats.getSnapshot();
+
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(new PersonBuilder(DANIEL).withTags("lab").build());
+
+        assertEquals(2, snapshot.getPersonCount());
+        assertEquals(Map.of("friends", 2, "owesmoney", 1), snapshot.getTagCounts());
+        assertEquals(1, snapshot.getPersonCountInGroup(CS2101));
+        assertEquals(Map.of("friends", 1), snapshot.getTagCountsInGroup(CS2103T));
+        assertEquals(Map.of("friends", 1, "lab", 1), stats.getTagCounts());
+    }
+
+    @Test
+    public void getTagCounts_modifyView_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> stats.getTagCounts().put("friends", 5));
+        assertThrows(UnsupportedOperationException.class, () -> stats.getTagCountsInGroup(CS2103T).clear());
+    }
+
+    /**
+     * Asserts that {@code stats} has the counts of a fresh pass over the persons of {@code addressBook}.
+     */
+    private static void assertStatsMatch(ReadOnlyAddressBook addressBook, StatsModel stats) {
+        assertEquals(addressBook.getPersonList().size(), stats.getPersonCount());
+        assertEquals(countTags(addressBook.getPersonList()), stats.getTagCounts());
+        for (Group group : addressBook.getGroupList()) {
+            List<Person> members = addressBook.getPersonsInGroup(group);
+            assertEquals(members.size(), stats.getPersonCountInGroup(group));
+            assertEquals(countTags(members), stats.getTagCountsInGroup(group));
+        }
+    }
+
+    private static Map<String, Integer> countTags(List<Person> persons) {
+        Map<String, Integer> tagCounts = new TreeMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagCounts.merge(tag.tagName.toLowerCase(), 1, Integer::sum);
+            }
+        }
+        return tagCounts;
+    }
+}
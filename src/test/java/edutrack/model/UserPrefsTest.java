@@ -1,9 +1,12 @@
 package edutrack.model;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
 
+import edutrack.commons.core.StorageFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +21,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookStorageFormat(null));
+    }
+
+    @Test
+    public void resetData_copiesStorageFormat() {
+        UserPrefs binaryPrefs = new UserPrefs();
+        binaryPrefs.setAddressBookStorageFormat(StorageFormat.BINARY);
+
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(StorageFormat.JSON, userPrefs.getAddressBookStorageFormat());
+        userPrefs.resetData(binaryPrefs);
+        assertEquals(binaryPrefs, userPrefs);
+    }
+
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class GroupTest {
@@ -121,5 +123,13 @@ public class GroupTest {
         Group group = new Group("CS2103T");
         assertEquals("[CS2103T]", group.toString());
     }
-}
 
+    @Test
+    public void isValidGroupName_sameResultAsValidationRegex() {
+        List<String> tests = List.of(
+                "CS2103T", "T01_a/b-c", "", "CS 2103T", "\uff21", "caf\u00e9", "#1");
+        for (String test : tests) {
+            assertEquals(test.matches(Group.VALIDATION_REGEX), Group.isValidGroupName(test), test);
+        }
+    }
+}
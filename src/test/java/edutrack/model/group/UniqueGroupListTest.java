@@ -0,0 +1,80 @@
+package edutrack.model.group;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class UniqueGroupListTest {
+
+    private final UniqueGroupList uniqueGroupList = new UniqueGroupList();
+
+    @Test
+    public void contains_nullGroup_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueGroupList.contains(null));
+    }
+
+    @Test
+    public void contains_groupNotInList_returnsFalse() {
+        assertFalse(uniqueGroupList.contains(new Group("CS2103T")));
+    }
+
+    @Test
+    public void contains_groupWithDifferentCase_returnsTrue() {
+        uniqueGroupList.add(new Group("CS2103T"));
+        assertTrue(uniqueGroupList.contains(new Group("cs2103t")));
+    }
+
+    @Test
+    public void add_duplicateGroup_throwsIllegalArgumentException() {
+        uniqueGroupList.add(new Group("CS2103T"));
+        assertThrows(IllegalArgumentException.class, () -> uniqueGroupList.add(new Group("cs2103t")));
+    }
+
+    @Test
+    public void get_groupWithDifferentCase_returnsCentralInstance() {
+        Group group = new Group("CS2103T");
+        uniqueGroupList.add(group);
+        assertSame(group, uniqueGroupList.get(new Group("cs2103t")));
+    }
+
+    @Test
+    public void get_groupDoesNotExist_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniqueGroupList.get(new Group("CS2103T")));
+    }
+
+    @Test
+    public void remove_groupDoesNotExist_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniqueGroupList.remove(new Group("CS2103T")));
+    }
+
+    @Test
+    public void remove_groupWithDifferentCase_removesGroup() {
+        uniqueGroupList.add(new Group("CS2103T"));
+        uniqueGroupList.remove(new Group("cs2103t"));
+        assertFalse(uniqueGroupList.contains(new Group("CS2103T")));
+        assertTrue(uniqueGroupList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setGroups_list_replacesOwnListWithProvidedList() {
+        uniqueGroupList.add(new Group("CS2103T"));
+        Group cs2101 = new Group("CS2101");
+        uniqueGroupList.setGroups(Arrays.asList(cs2101, new Group("cs2101"), new Group("CS2040S")));
+
+        assertFalse(uniqueGroupList.contains(new Group("CS2103T")));
+        assertEquals(2, uniqueGroupList.asUnmodifiableObservableList().size());
+        assertSame(cs2101, uniqueGroupList.get(new Group("CS2101")));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+            uniqueGroupList.asUnmodifiableObservableList().remove(0));
+    }
+}
@@ -1,15 +1,20 @@
 package edutrack.model.person;
 
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import edutrack.model.AddressBook;
 import edutrack.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +79,21 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<List<String>> keywordLists = List.of(List.of("meier"), List.of("Kurz", "ALICE", "nobody"),
+                List.of("Meier", "Daniel"), List.of("Pau"), Collections.emptyList());
+
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.findMatches(addressBook)), keywords.toString());
+            assertEquals(expected.size(), predicate.findMatches(addressBook).size());
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
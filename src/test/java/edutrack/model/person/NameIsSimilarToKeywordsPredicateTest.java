@@ -0,0 +1,85 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.testutil.PersonBuilder;
+
+public class NameIsSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameIsSimilarToKeywordsPredicate(List.of(" ")));
+    }
+
+    @Test
+    public void equals() {
+        NameIsSimilarToKeywordsPredicate firstPredicate = new NameIsSimilarToKeywordsPredicate(List.of("alcie"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new NameIsSimilarToKeywordsPredicate(List.of("alcie"))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(new NameIsSimilarToKeywordsPredicate(List.of("alice"))));
+    }
+
+    @Test
+    public void getMaxEditDistance_longerKeywords_allowMoreEdits() {
+        assertEquals(0, NameIsSimilarToKeywordsPredicate.getMaxEditDistance("ng"));
+        assertEquals(1, NameIsSimilarToKeywordsPredicate.getMaxEditDistance("tan"));
+        assertEquals(1, NameIsSimilarToKeywordsPredicate.getMaxEditDistance("ibrahim"));
+        assertEquals(2, NameIsSimilarToKeywordsPredicate.getMaxEditDistance("oliveiro"));
+    }
+
+    @Test
+    public void test_misspeltKeyword_matchesWithinMaxEditDistance() {
+        NameIsSimilarToKeywordsPredicate predicate = new NameIsSimilarToKeywordsPredicate(List.of("alcie", "ng"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("ALCIE").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Wei Ng").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Wei Ong").build())); // short keywords are exact
+        assertFalse(predicate.test(new PersonBuilder().withName("Alicia Tan").build()));
+    }
+
+    @Test
+    public void rank_fewerEdits_ranksHigher() {
+        NameIsSimilarToKeywordsPredicate predicate = new NameIsSimilarToKeywordsPredicate(List.of("balakrishan"));
+        assertEquals(0, predicate.rank(new PersonBuilder().withName("Siti Balakrishan").build()));
+        assertEquals(1, predicate.rank(new PersonBuilder().withName("Siti Balakrishnan").build()));
+        assertEquals(2, predicate.rank(new PersonBuilder().withName("Siti Blakrishnan").build()));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<List<String>> keywordLists = List.of(List.of("meir"), List.of("Kurtz", "ALCIE", "nobody"),
+                List.of("Meyer", "Danial"), List.of("bset"), List.of("georgina"));
+
+        for (List<String> keywords : keywordLists) {
+            NameIsSimilarToKeywordsPredicate predicate = new NameIsSimilarToKeywordsPredicate(keywords);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.findMatches(addressBook)), keywords.toString());
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameIsSimilarToKeywordsPredicate predicate = new NameIsSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameIsSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void constructor_emptyStem_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameStartsWithKeywordsPredicate(List.of("*")));
+    }
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate = new NameStartsWithKeywordsPredicate(List.of("ali*"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new NameStartsWithKeywordsPredicate(List.of("ali*"))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(new NameStartsWithKeywordsPredicate(List.of("ali"))));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("ali*"))));
+    }
+
+    @Test
+    public void test_wildcardKeyword_matchesStartOfWord() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("ali*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tan ALI").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Khalid Tan").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Al Ice").build()));
+    }
+
+    @Test
+    public void test_plainKeyword_matchesWholeWord() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("zz*", "tan"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Wei Tan").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Wei Tang").build()));
+    }
+
+    @Test
+    public void rank_shorterMatchingWord_ranksHigher() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(List.of("ali*", "lim"));
+        assertEquals(0, predicate.rank(new PersonBuilder().withName("Ali Khan").build()));
+        assertEquals(0, predicate.rank(new PersonBuilder().withName("Alicia Lim").build()));
+        assertEquals(2, predicate.rank(new PersonBuilder().withName("Alice Pauline").build()));
+        assertEquals(3, predicate.rank(new PersonBuilder().withName("Alicia Tan").build()));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<List<String>> keywordLists = List.of(List.of("me*"), List.of("Ku*", "ALICE", "nobody*"),
+                List.of("Meier", "d*"), List.of("pauline*"), List.of("e*"));
+
+        for (List<String> keywords : keywordLists) {
+            NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(keywords);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.findMatches(addressBook)), keywords.toString());
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1*", "keyword2");
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(keywords);
+
+        String expected = NameStartsWithKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,9 +1,13 @@
 package edutrack.model.person;
 
 import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -50,6 +54,12 @@ public class NameTest {
         assertTrue(Name.isValidName("O'Connor")); // apostrophe
     }
 
+    @Test
+    public void getFoldedWords() {
+        assertEquals(Set.of("alice", "pauline"), new Name("Alice   PAULINE alice").getFoldedWords());
+        assertEquals(Set.of("s/o", "j.k."), new Name("J.K. S/O").getFoldedWords());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -69,4 +79,23 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        Name name = new Name("Valid Name");
+        Name differentCase = new Name("VALID name");
+
+        assertTrue(name.equals(differentCase));
+        assertEquals(name.hashCode(), differentCase.hashCode());
+    }
+
+    @Test
+    public void isValidName_sameResultAsValidationRegex() {
+        List<String> tests = List.of(
+                "peter jack", "J.K. Rowling", "O'Brien-Smith", "a/l Ravi", " peter", ".peter", "peter*",
+                "\u674e\u5c0f\u9f99", "Jos\u00e9 Mar\u00eda", "Ren\u00e9e #1", "12345", "e\u0301clair");
+        for (String test : tests) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.util.SyntheticDataUtil;
+import edutrack.testutil.PersonBuilder;
+
+public class NoteMatchesQueryPredicateTest {
+
+    private static final Person RECURSION = new PersonBuilder().withName("Amy Bee")
+            .withNote("Needs more help with recursion.").build();
+    private static final Person DEADLINES = new PersonBuilder().withName("Bob Choo")
+            .withNote("Missed the past 3 deadlines; needs help.").build();
+
+    @Test
+    public void constructor_emptyQuery_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NoteMatchesQueryPredicate(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new NoteMatchesQueryPredicate(List.of(List.of())));
+        assertThrows(IllegalArgumentException.class, () -> new NoteMatchesQueryPredicate(List.of(List.of("..."))));
+    }
+
+    @Test
+    public void equals() {
+        NoteMatchesQueryPredicate firstPredicate = new NoteMatchesQueryPredicate(List.of(List.of("help")));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new NoteMatchesQueryPredicate(List.of(List.of("help")))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(new NoteMatchesQueryPredicate(List.of(List.of("help"), List.of("late")))));
+    }
+
+    @Test
+    public void test_allTermsOfAnAlternative_match() {
+        // every term of an alternative must be in the note
+        NoteMatchesQueryPredicate predicate = new NoteMatchesQueryPredicate(List.of(List.of("HELP", "recursion")));
+        assertTrue(predicate.test(RECURSION));
+        assertFalse(predicate.test(DEADLINES));
+
+        // any alternative may match
+        predicate = new NoteMatchesQueryPredicate(List.of(List.of("recursion"), List.of("deadlines")));
+        assertTrue(predicate.test(RECURSION));
+        assertTrue(predicate.test(DEADLINES));
+
+        // words are not matched partially
+        assertFalse(new NoteMatchesQueryPredicate(List.of(List.of("deadline"))).test(DEADLINES));
+    }
+
+    @Test
+    public void test_phrase_matchesConsecutiveWords() {
+        assertTrue(new NoteMatchesQueryPredicate(List.of(List.of("deadlines, needs"))).test(DEADLINES));
+        assertTrue(new NoteMatchesQueryPredicate(List.of(List.of("past 3 deadlines"))).test(DEADLINES));
+        assertFalse(new NoteMatchesQueryPredicate(List.of(List.of("needs help"))).test(RECURSION));
+        assertFalse(new NoteMatchesQueryPredicate(List.of(List.of("deadlines past"))).test(DEADLINES));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(300, 5);
+        addressBook.addPerson(RECURSION);
+        addressBook.addPerson(DEADLINES);
+        List<List<List<String>>> queries = List.of(List.of(List.of("help")), List.of(List.of("needs", "help")),
+                List.of(List.of("needs help")), List.of(List.of("help with"), List.of("twice")),
+                List.of(List.of("missed", "friday")), List.of(List.of("nothing")));
+
+        for (List<List<String>> query : queries) {
+            NoteMatchesQueryPredicate predicate = new NoteMatchesQueryPredicate(query);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.findMatches(addressBook)), query.toString());
+            assertEquals(expected.size(), predicate.findMatches(addressBook).size());
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<List<String>> alternatives = List.of(List.of("keyword1", "a phrase"), List.of("keyword2"));
+        NoteMatchesQueryPredicate predicate = new NoteMatchesQueryPredicate(alternatives);
+
+        String expected = NoteMatchesQueryPredicate.class.getCanonicalName() + "{alternatives=" + alternatives + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
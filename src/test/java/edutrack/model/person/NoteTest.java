@@ -0,0 +1,25 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NoteTest {
+
+    @Test
+    public void constructor_invalidNote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Note(" leading space"));
+    }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(List.of(), new Note("").getFoldedWords());
+        assertEquals(List.of("missed", "the", "past", "3", "deadlines", "needs", "help"),
+                new Note("Missed the past 3 deadlines. NEEDS help!").getFoldedWords());
+        assertEquals(List.of("don", "t", "re", "submit", "lab", "2"),
+                new Note("Don't re-submit (LAB-2)").getFoldedWords());
+    }
+}
@@ -0,0 +1,117 @@
+package edutrack.model.person;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.tag.Tag;
+import edutrack.model.util.SyntheticDataUtil;
+import edutrack.testutil.PersonBuilder;
+
+public class PersonMatchesAllPredicateTest {
+
+    private final AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(2000, 11);
+    private final String groupName = addressBook.getGroupList().get(0).groupName;
+    private final Predicate<Person> name = new NameContainsKeywordsPredicate(List.of("Alex", "Tan"));
+    private final Predicate<Person> group = new GroupNameContainsKeywordsPredicate(List.of(groupName));
+    private final Predicate<Person> tag = new PersonHasTagPredicate(new Tag("friends"));
+    private final Predicate<Person> phone = person -> person.getPhone().value.startsWith("8");
+
+    @Test
+    public void constructor_noClauses_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonMatchesAllPredicate(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        PersonMatchesAllPredicate firstPredicate = new PersonMatchesAllPredicate(List.of(name, group));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new PersonMatchesAllPredicate(List.of(name, group))));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(new PersonMatchesAllPredicate(List.of(name, tag))));
+    }
+
+    @Test
+    public void test_everyClauseMustMatch() {
+        Person alexInGroup = new PersonBuilder().withName("Alex Yeoh").withGroup(groupName).build();
+        Person alexNotInGroup = new PersonBuilder().withName("Alex Yeoh").withGroup("other").build();
+        PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(List.of(name, group));
+
+        assertTrue(predicate.test(alexInGroup));
+        assertFalse(predicate.test(alexNotInGroup));
+    }
+
+    @Test
+    public void getPlan_mostSelectiveIndexedClauseFirst() {
+        // a group has about 40 persons, while a tenth of the persons are named Alex or Tan
+        assertEquals(List.of(group, name, phone),
+                new PersonMatchesAllPredicate(List.of(phone, name, group)).getPlan(addressBook));
+        assertEquals(List.of(phone), new PersonMatchesAllPredicate(List.of(phone)).getPlan(addressBook));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        List<List<Predicate<Person>>> clauseLists = List.of(List.of(name, group), List.of(tag, name, phone),
+                List.of(phone), List.of(group), List.of(tag), List.of(group, tag),
+                List.of(new GroupNameContainsKeywordsPredicate(List.of("no such group!"))));
+
+        for (List<Predicate<Person>> clauses : clauseLists) {
+            PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(clauses);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, new HashSet<>(predicate.findMatches(addressBook)), clauses.toString());
+            assertEquals(expected.size(), predicate.findMatches(addressBook).size());
+            assertTrue(predicate.estimateMatchCount(addressBook) >= expected.size());
+        }
+    }
+
+    @Test
+    public void findMatches_prefixKeyword_looksUpNameWordsOnce() {
+        int[] lookupCount = {0};
+        AddressBook countingAddressBook = new AddressBook() {
+            @Override
+            public Set<String> getNameWordsStartingWith(String prefix) {
+                lookupCount[0]++;
+                return super.getNameWordsStartingWith(prefix);
+            }
+        };
+        countingAddressBook.resetData(addressBook);
+        PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(List.of(phone,
+                new NameStartsWithKeywordsPredicate(List.of("al*"))));
+
+        Set<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.findMatches(countingAddressBook)));
+        assertEquals(1, lookupCount[0]);
+    }
+
+    @Test
+    public void rank_sumOfRankedClauses() {
+        Person person = new PersonBuilder().withName("Alicia Tann").withGroup(new Group("T01").groupName).build();
+        PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(List.of(
+                new NameStartsWithKeywordsPredicate(List.of("ali*")),
+                new NameIsSimilarToKeywordsPredicate(List.of("tan")),
+                new GroupNameContainsKeywordsPredicate(List.of("t01"))));
+        assertEquals(4, predicate.rank(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(List.of(name, tag));
+
+        String expected = PersonMatchesAllPredicate.class.getCanonicalName() + "{clauses=" + List.of(name, tag) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -10,10 +10,15 @@ import static edutrack.testutil.TypicalPersons.ALICE;
 import static edutrack.testutil.TypicalPersons.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import edutrack.model.group.Group;
+import edutrack.model.tag.Tag;
 import edutrack.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +29,18 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSortedTags_sortedByNameAndShared() {
+        Person person = new PersonBuilder().withTags("weak", "Late", "absent").withGroup("T02", "T01").build();
+
+        assertEquals(List.of(new Tag("Late"), new Tag("absent"), new Tag("weak")), person.getSortedTags());
+        assertEquals(List.of(new Group("T01"), new Group("T02")), person.getSortedGroups());
+        assertSame(person.getSortedTags(), person.getSortedTags());
+        assertSame(person.getSortedGroups(), person.getSortedGroups());
+        assertThrows(UnsupportedOperationException.class, () -> person.getSortedTags().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> person.getSortedGroups().clear());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
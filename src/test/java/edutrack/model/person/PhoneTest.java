@@ -1,8 +1,11 @@
 package edutrack.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -52,4 +55,13 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void isValidPhone_sameResultAsValidationRegex() {
+        List<String> tests = List.of(
+                "911", "91", "93121534", "9312 1534", "\u0661\u0662\u0663", "+6591234567", "12a");
+        for (String test : tests) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
 }
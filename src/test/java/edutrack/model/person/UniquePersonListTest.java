@@ -6,14 +6,18 @@ import static edutrack.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.ALICE;
 import static edutrack.testutil.TypicalPersons.BOB;
+import static edutrack.testutil.TypicalPersons.CARL;
+import static edutrack.testutil.TypicalPersons.DANIEL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import edutrack.model.person.exceptions.DuplicatePersonException;
@@ -229,4 +233,98 @@ public class UniquePersonListTest {
         uniquePersonList.add(aaronUpperCase);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aaronLowerCase));
     }
+
+    @Test
+    public void contains_personWithSameNameDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceUpperCase = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceUpperCase));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the old identity can be reused
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_identityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovalAndSort_updateRightPositions() {
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.remove(DANIEL);
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl, BOB), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.sortByName();
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPerson(editedCarl, CARL);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicate() {
+        Person bobLowerCase = new PersonBuilder(BOB).withName(BOB.getName().fullName.toLowerCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, bobLowerCase);
+
+        DuplicatePersonException exception = Assertions.assertThrows(
+                DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Arrays.asList(ALICE, bobLowerCase), exception.getDuplicates());
+
+        // list is left untouched
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_largeListWithDuplicates_reportsEveryDuplicate() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            persons.add(new PersonBuilder().withName("Student " + i).build());
+        }
+        Person firstDuplicate = new PersonBuilder().withName("STUDENT 0").build();
+        Person lastDuplicate = new PersonBuilder().withName("student 99999").build();
+        List<Person> personsWithDuplicates = new ArrayList<>(persons);
+        personsWithDuplicates.add(firstDuplicate);
+        personsWithDuplicates.add(lastDuplicate);
+
+        DuplicatePersonException exception = Assertions.assertThrows(
+                DuplicatePersonException.class, () -> uniquePersonList.setPersons(personsWithDuplicates));
+        assertEquals(Arrays.asList(firstDuplicate, lastDuplicate), exception.getDuplicates());
+
+        uniquePersonList.setPersons(persons);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(lastDuplicate));
+    }
 }
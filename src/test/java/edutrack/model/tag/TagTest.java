@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -53,4 +55,13 @@ public class TagTest {
         assertEquals(t1.hashCode(), t2.hashCode());
     }
 
+    @Test
+    public void isValidTagName_sameResultAsValidationRegex() {
+        List<String> tests = List.of(
+                "friends", "CS2103T-F14a", "a_b/c", "", " ", "caf\u00e9", "\u0661\u0662", "tab\t",
+                "x".repeat(100));
+        for (String test : tests) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package edutrack.model.tag;
 import static edutrack.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
@@ -140,5 +141,38 @@ public class UniqueTagListTest {
         }
         assertEquals(2, count);
     }
-}
 
+    @Test
+    public void contains_tagWithDifferentCase_returnsTrue() {
+        uniqueTagList.add(new Tag("Physics"));
+        assertTrue(uniqueTagList.contains(new Tag("pHYSICS")));
+    }
+
+    @Test
+    public void get_tagWithDifferentCase_returnsCentralInstance() {
+        Tag physics = new Tag("Physics");
+        uniqueTagList.add(physics);
+        assertSame(physics, uniqueTagList.get(new Tag("physics")));
+    }
+
+    @Test
+    public void get_tagDoesNotExist_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniqueTagList.get(new Tag("Physics")));
+    }
+
+    @Test
+    public void remove_tagWithDifferentCase_removesCentralInstance() {
+        uniqueTagList.add(new Tag("Physics"));
+        uniqueTagList.remove(new Tag("PHYSICS"));
+        assertFalse(uniqueTagList.contains(new Tag("Physics")));
+        assertTrue(uniqueTagList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void setTags_listWithDuplicates_keepsFirstOccurrence() {
+        Tag physics = new Tag("Physics");
+        uniqueTagList.setTags(Arrays.asList(physics, new Tag("physics"), new Tag("Chemistry")));
+        assertEquals(2, uniqueTagList.asUnmodifiableObservableList().size());
+        assertSame(physics, uniqueTagList.get(new Tag("PHYSICS")));
+    }
+}
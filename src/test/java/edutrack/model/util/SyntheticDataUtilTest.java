@@ -0,0 +1,63 @@
+package edutrack.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+public class SyntheticDataUtilTest {
+
+    @Test
+    public void getSyntheticAddressBook_sameSeed_sameAddressBook() {
+        assertEquals(SyntheticDataUtil.getSyntheticAddressBook(500, 42),
+                SyntheticDataUtil.getSyntheticAddressBook(500, 42));
+    }
+
+    @Test
+    public void getSyntheticAddressBook_differentSeed_differentAddressBook() {
+        assertNotEquals(SyntheticDataUtil.getSyntheticAddressBook(500, 42),
+                SyntheticDataUtil.getSyntheticAddressBook(500, 43));
+    }
+
+    @Test
+    public void getSyntheticAddressBook_personsUseCentralGroupsAndTags() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(1000, 1);
+
+        assertEquals(1000, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            for (Group group : person.getGroups()) {
+                assertSame(addressBook.getGroup(group), group);
+            }
+            for (Tag tag : person.getTags()) {
+                assertSame(addressBook.getTag(tag), tag);
+            }
+        }
+    }
+
+    @Test
+    public void getSyntheticPersons_tagsAreUnevenlyDistributed() {
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Person person : SyntheticDataUtil.getSyntheticPersons(5000, 7)) {
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        int mostCommon = tagCounts.values().stream().max(Integer::compare).orElseThrow();
+        int leastCommon = tagCounts.values().stream().min(Integer::compare).orElseThrow();
+        assertTrue(mostCommon > 4 * leastCommon);
+    }
+
+    @Test
+    public void getSyntheticPersons_noPersons_returnsEmptyList() {
+        assertEquals(0, SyntheticDataUtil.getSyntheticPersons(0, 1).size());
+    }
+}
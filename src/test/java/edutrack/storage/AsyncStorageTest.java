@@ -0,0 +1,176 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.IDA;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void saveAddressBook_thenFlush_writesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AsyncStorage storage = new AsyncStorage(new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        // changes made after scheduling the save are not part of it
+        original.addPerson(HOON);
+        storage.flush();
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_onlyLatestWritten() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        AsyncStorage storage = new AsyncStorage(createStorage(addressBook -> {
+            firstWriteStarted.countDown();
+            firstWriteReleased.await();
+        }));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        firstWriteStarted.await();
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(2, savedAddressBooks.size());
+        assertEquals(original, savedAddressBooks.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_mutationsBetweenSaves_writtenOnWriterThread() throws Exception {
+        List<String> writingThreads = Collections.synchronizedList(new ArrayList<>());
+        AsyncStorage storage = new AsyncStorage(createStorage(addressBook ->
+                writingThreads.add(Thread.currentThread().getName())));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").withGroup("CS2103T").build());
+        original.removePerson(BENSON);
+        original.addTag(new Tag("Physics"));
+        original.addGroup(new Group("CS1101S"));
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, savedAddressBooks.get(savedAddressBooks.size() - 1));
+
+        // a sort cannot be recorded, so the address book is copied again
+        original.sortPersonList();
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original, testFolder.resolve("other.json"));
+        assertEquals(original, savedAddressBooks.get(savedAddressBooks.size() - 2));
+        assertEquals(original, savedAddressBooks.get(savedAddressBooks.size() - 1));
+        assertEquals(Collections.nCopies(writingThreads.size(), "address-book-writer"), writingThreads);
+    }
+
+    @Test
+    public void flush_backgroundWriteFailed_throwsFailureOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        List<IOException> handledFailures = Collections.synchronizedList(new ArrayList<>());
+        AsyncStorage storage = new AsyncStorage(createStorage(addressBook -> {
+            throw failure;
+        }));
+        storage.setSaveFailureHandler(handledFailures::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "disk full", storage::flush);
+        assertEquals(List.of(failure), handledFailures);
+
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedBackgroundWrite_throwsFailure() throws Exception {
+        AsyncStorage storage = new AsyncStorage(createStorage(addressBook -> {
+            throw new IOException("disk full");
+        }));
+        CountDownLatch failed = new CountDownLatch(1);
+        storage.setSaveFailureHandler(failure -> failed.countDown());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        failed.await();
+        assertThrows(IOException.class, "disk full", () -> storage.saveAddressBook(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void saveAddressBook_explicitPath_writtenBeforeReturning() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        AsyncStorage storage = new AsyncStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, filePath);
+
+        assertEquals(original, storage.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readUserPrefs_delegatesToStorage() throws Exception {
+        StorageManager storageManager = new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        assertSame(storageManager.getUserPrefsFilePath(), new AsyncStorage(storageManager).getUserPrefsFilePath());
+    }
+
+    /**
+     * Returns a {@code Storage} that records each saved address book after passing it to {@code onSave}.
+     */
+    private Storage createStorage(SaveAction onSave) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        try {
+                            onSave.accept(addressBook);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        savedAddressBooks.add(addressBook);
+                    }
+                };
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    /**
+     * An action performed by the storage on each save.
+     */
+    private interface SaveAction {
+        void accept(ReadOnlyAddressBook addressBook) throws IOException, InterruptedException;
+    }
+}
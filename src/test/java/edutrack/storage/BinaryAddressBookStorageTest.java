@@ -0,0 +1,232 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.exceptions.DataLoadingException;
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_personsUseCentralGroupsAndTags() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook addressBook = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        for (Person person : addressBook.getPersonList()) {
+            for (Group group : person.getGroups()) {
+                assertSame(addressBook.getGroupList().get(addressBook.getGroupList().indexOf(group)), group);
+            }
+            for (Tag tag : person.getTags()) {
+                assertSame(addressBook.getTagList().get(addressBook.getTagList().indexOf(tag)), tag);
+            }
+        }
+    }
+
+    @Test
+    public void decode_groupsAndTagsMissingFromCentralLists_createsThem() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withTags("friends").withGroup("CS2103T").build());
+        original.setGroups(List.of());
+        original.setTags(List.of());
+
+        AddressBook decoded = BinaryAddressBookStorage.decode(encode(original));
+
+        assertTrue(decoded.hasGroup(new Group("CS2103T")));
+        assertTrue(decoded.hasTag(new Tag("friends")));
+    }
+
+    @Test
+    public void decode_notBinaryAddressBook_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_NOT_BINARY_ADDRESS_BOOK, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.wrap("{ \"persons\": [] }".getBytes())));
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_NOT_BINARY_ADDRESS_BOOK, () ->
+                BinaryAddressBookStorage.decode(ByteBuffer.allocate(0)));
+    }
+
+    @Test
+    public void decode_truncated_throwsIllegalValueException() throws Exception {
+        ByteBuffer encoded = encode(getTypicalAddressBook());
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(encoded.array(), encoded.limit() - 3));
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookStorage.decode(truncated));
+    }
+
+    @Test
+    public void decode_countsBeyondContent_throwsIllegalValueException() throws Exception {
+        ByteBuffer encoded = encode(getTypicalAddressBook());
+
+        // a string table larger than the file
+        ByteBuffer hugeStringTable = copyOf(encoded);
+        hugeStringTable.putInt(2 * Integer.BYTES, Integer.MAX_VALUE);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookStorage.decode(hugeStringTable));
+
+        // a string longer than the file
+        ByteBuffer hugeString = copyOf(encoded);
+        hugeString.putInt(3 * Integer.BYTES, Integer.MAX_VALUE);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookStorage.decode(hugeString));
+    }
+
+    @Test
+    public void decode_recordLengthBeyondContent_throwsIllegalValueException() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withTags().withGroup().build());
+        ByteBuffer encoded = encode(original);
+        // after the magic number, the version, and the empty string table, group list and tag list
+        int recordLengthPosition = 6 * Integer.BYTES;
+
+        ByteBuffer tooLong = copyOf(encoded);
+        tooLong.putInt(recordLengthPosition, tooLong.getInt(recordLengthPosition) + 1);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookStorage.decode(tooLong));
+
+        ByteBuffer tooShort = copyOf(encoded);
+        tooShort.putInt(recordLengthPosition, tooShort.getInt(recordLengthPosition) - 1);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED, () ->
+                BinaryAddressBookStorage.decode(tooShort));
+    }
+
+    @Test
+    public void readAddressBook_jsonDataFile_convertedToBinary() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage jsonStorage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, storage.readAddressBook().get());
+
+        assertEquals(original, BinaryAddressBookStorage.decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(FileUtil.getBackupPath(filePath))
+                .readAddressBook().get());
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithJsonDataFile_convertsJsonDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+
+        // another file is only read, not converted
+        Path otherFilePath = testFolder.resolve("other.bin");
+        assertFalse(storage.readAddressBook(otherFilePath).isPresent());
+        assertFalse(Files.exists(otherFilePath));
+    }
+
+    @Test
+    public void decode_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Person alice = new PersonBuilder(ALICE).build();
+        AddressBook original = new AddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableArrayList(alice, alice);
+            }
+        };
+        ByteBuffer encoded = encode(original);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookStorage.decode(encoded));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        Files.write(filePath, new byte[] {1, 2, 3});
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupPath(filePath)));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    private static ByteBuffer copyOf(ByteBuffer buffer) {
+        return ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.limit()));
+    }
+
+    private static ByteBuffer encode(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.encode(addressBook, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -0,0 +1,253 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.HOON;
+import static edutrack.testutil.TypicalPersons.IDA;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        journalFilePath = JournalingAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalingAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalingAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_mutationsAfterFirstSave_appendedToJournalOnly() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").withGroup("CS2103T").build());
+        original.removePerson(BENSON);
+        original.addTag(new Tag("Physics"));
+        original.addGroup(new Group("CS1101S"));
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(original, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_anotherAddressBook_compactsIntoSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        // the changes made to a copy were not recorded
+        AddressBook copy = new AddressBook(original);
+        copy.removePerson(ALICE);
+        storage.saveAddressBook(copy);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(copy, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(copy, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void getBytesWritten_snapshotAndJournal_countsBoth() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        assertEquals(0, storage.getBytesWritten());
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(Files.size(filePath) + Files.size(journalFilePath), storage.getBytesWritten());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(Files.size(filePath) + Files.size(journalFilePath), storage.getBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalUnchanged() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readAllLines(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_sortedPersons_compactsIntoSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(ALICE);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+
+        original.sortPersonList();
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_ignored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulate a crash between writing a new snapshot and resetting the journal
+        AddressBook newSnapshot = getTypicalAddressBook();
+        newSnapshot.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newSnapshot);
+
+        assertEquals(newSnapshot, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignored() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        Files.write(journalFilePath, "{\"type\":\"ADD_PERSON\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(expected, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryNotMatchingSnapshot_loadsEntriesBeforeIt() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(ALICE);
+
+        // removing the same person twice cannot be replayed, so neither can the entries after it
+        List<String> corruptedJournal = new ArrayList<>(journal);
+        corruptedJournal.add(journal.get(1));
+        corruptedJournal.addAll(Files.readAllLines(journalFilePath).subList(journal.size(), journal.size() + 1));
+        Files.write(journalFilePath, corruptedJournal, StandardCharsets.UTF_8);
+
+        assertEquals(expected, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_entryWithInvalidValues_loadsEntriesBeforeIt() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(journalFilePath);
+        journal.set(2, journal.get(2).replace(IDA.getPhone().value, "not a phone"));
+        Files.write(journalFilePath, journal, StandardCharsets.UTF_8);
+
+        assertEquals(expected, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutBase_snapshotLoaded() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, "{\"type\":\"ADD_PERSON\"}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(original, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesInOrder_replayedInOrder() throws Exception {
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Tag physics = new Tag("Physics");
+        original.addTag(physics);
+        original.addPerson(new PersonBuilder(HOON).withTags("Physics").withGroup("CS1101S").build());
+        original.removePerson(ALICE);
+        original.addPerson(ALICE);
+        original.deleteTag(physics);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new JournalingAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path otherFilePath = testFolder.resolve("export.json");
+        new JournalingAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+}
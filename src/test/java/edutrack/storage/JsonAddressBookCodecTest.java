@@ -0,0 +1,116 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+
+public class JsonAddressBookCodecTest {
+
+    private static final String PERSON_JSON = "{ \"name\": \"Alice Pauline\", \"phone\": \"94351253\", "
+            + "\"email\": \"alice@example.com\", \"address\": \"123, Jurong West Ave 6\", "
+            + "\"tags\": [ \"friends\" ], \"groups\": [ \"cs2103t\" ], \"note\": \"\" }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonAddressBookCodec.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void writeThenRead_typicalAddressBook_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookCodec.write(original, out);
+        }
+
+        assertEquals(original, JsonAddressBookCodec.read(filePath).get());
+    }
+
+    @Test
+    public void write_typicalAddressBook_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonAddressBookCodec.write(original, out);
+        }
+
+        JsonSerializableAddressBook serializableAddressBook =
+                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, serializableAddressBook.toModelType());
+    }
+
+    @Test
+    public void read_personsBeforeCentralLists_usesCentralReferences() throws Exception {
+        Path filePath = writeJson("{ \"persons\": [ " + PERSON_JSON + " ], \"unknown\": { \"a\": [ 1 ] }, "
+                + "\"groups\": [ \"CS2103T\" ], \"tags\": [ \"friends\" ] }");
+
+        ReadOnlyAddressBook addressBook = JsonAddressBookCodec.read(filePath).get();
+        Person person = addressBook.getPersonList().get(0);
+        assertSame(addressBook.getGroupList().get(0), person.getGroups().iterator().next());
+        assertSame(addressBook.getTagList().get(0), person.getTags().iterator().next());
+        assertEquals("CS2103T", addressBook.getGroupList().get(0).groupName);
+    }
+
+    @Test
+    public void read_missingCentralLists_createsGroupsAndTags() throws Exception {
+        Path filePath = writeJson("{ \"persons\": [ " + PERSON_JSON + " ] }");
+
+        ReadOnlyAddressBook addressBook = JsonAddressBookCodec.read(filePath).get();
+        assertTrue(addressBook.getGroupList().contains(new Group("CS2103T")));
+        assertTrue(addressBook.getTagList().contains(new Tag("friends")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        Path filePath = writeJson("{ \"persons\": [ " + PERSON_JSON + ", " + PERSON_JSON + " ] }");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_duplicateGroups_throwsIllegalValueException() throws Exception {
+        Path filePath = writeJson("{ \"groups\": [ \"CS2103T\", \"cs2103t\" ] }");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP, () ->
+                JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = writeJson("[ ]");
+        assertThrows(IOException.class, () -> JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_personsNotAnArray_throwsIoException() throws Exception {
+        Path filePath = writeJson("{ \"persons\": \"Alice\" }");
+        assertThrows(IOException.class, () -> JsonAddressBookCodec.read(filePath));
+    }
+
+    private Path writeJson(String json) throws IOException {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, json);
+        return filePath;
+    }
+}
@@ -9,8 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -86,6 +88,46 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_fallsBackToBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        Files.writeString(filePath, "{ \"persons\": [ {");
+
+        assertEquals(original, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackup_fallsBackToBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        Files.delete(filePath);
+
+        assertEquals(getTypicalAddressBook(), jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookWithChecksum_typicalAddressBook_checksumOfFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        long checksum = jsonAddressBookStorage.saveAddressBookWithChecksum(getTypicalAddressBook(), filePath);
+
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(filePath));
+        assertEquals(crc.getValue(), checksum);
+        assertEquals(getTypicalAddressBook(), jsonAddressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
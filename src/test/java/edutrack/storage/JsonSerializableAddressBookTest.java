@@ -0,0 +1,126 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.commons.util.FileUtil;
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Person;
+import edutrack.model.tag.Tag;
+import edutrack.testutil.PersonBuilder;
+import edutrack.testutil.TypicalPersons;
+
+public class JsonSerializableAddressBookTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toModelType_typicalPersonsFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        // the file predates notes, so only the identities of the persons are compared
+        assertEquals(TypicalPersons.getTypicalPersons().stream().map(Person::getName).toList(),
+                addressBookFromFile.getPersonList().stream().map(Person::getName).toList());
+    }
+
+    @Test
+    public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateGroups_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(),
+                List.of(new JsonAdaptedGroup(new Group("CS2103T")), new JsonAdaptedGroup(new Group("cs2103t"))),
+                List.of());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_groupsAndTagsMissingFromCentralLists_createsCentralReferences() throws Exception {
+        Person first = new PersonBuilder().withName("Amy Bee").withTags("friends").withGroup("CS2103T").build();
+        Person second = new PersonBuilder().withName("Bob Choo").withTags("FRIENDS").withGroup("cs2103t").build();
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                List.of(new JsonAdaptedPerson(first), new JsonAdaptedPerson(second)), List.of(), List.of());
+
+        AddressBook addressBook = data.toModelType();
+
+        assertEquals(List.of(new Group("CS2103T")), addressBook.getGroupList());
+        assertEquals(List.of(new Tag("friends")), addressBook.getTagList());
+        for (Person person : addressBook.getPersonList()) {
+            assertSame(addressBook.getGroupList().get(0), person.getGroups().iterator().next());
+            assertSame(addressBook.getTagList().get(0), person.getTags().iterator().next());
+        }
+    }
+
+    @Test
+    public void toModelType_largeAddressBook_sameAsStreamingCodec() throws Exception {
+        JsonSerializableAddressBook data = createAddressBook(20_000);
+        Path filePath = testFolder.resolve("addressBook.json");
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(data));
+
+        AddressBook addressBook = data.toModelType();
+
+        assertEquals(JsonAddressBookCodec.read(filePath).get(), addressBook);
+        assertEquals(800, addressBook.getPersonsInGroup(new Group("G7")).size());
+        Map<Group, Group> centralGroups = new HashMap<>();
+        addressBook.getGroupList().forEach(group -> centralGroups.put(group, group));
+        for (Person person : addressBook.getPersonList()) {
+            for (Group group : person.getGroups()) {
+                assertSame(centralGroups.get(group), group);
+            }
+        }
+    }
+
+    /**
+     * Returns an address book of {@code size} persons spread over 50 groups and 20 tags.
+     */
+    private static JsonSerializableAddressBook createAddressBook(int size) {
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            groups.add(new JsonAdaptedGroup(new Group("G" + i)));
+        }
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tags.add(new JsonAdaptedTag(new Tag("T" + i)));
+        }
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Student " + i)
+                    .withTags("T" + (i % 20)).withGroup("G" + (i % 50), "G" + ((i + 1) % 50)).build()));
+        }
+        return new JsonSerializableAddressBook(persons, groups, tags);
+    }
+}
@@ -0,0 +1,101 @@
+package edutrack.storage;
+
+import static edutrack.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edutrack.commons.exceptions.IllegalValueException;
+import edutrack.model.person.Name;
+import edutrack.model.person.Person;
+import edutrack.model.person.Phone;
+import edutrack.testutil.PersonBuilder;
+
+public class ParallelPersonDecoderTest {
+
+    private static final String VALID_PHONE = "91234567";
+    private static final String VALID_EMAIL = "student@example.com";
+    private static final String VALID_ADDRESS = "Blk 123";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void decodeInto_noPersons_addsNoPersons() throws Exception {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        new ParallelPersonDecoder(pool, 3).decodeInto(assembler);
+        assertTrue(assembler.toAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void decodeInto_manyChunks_keepsOrder() throws Exception {
+        List<Person> expectedPersons = new ArrayList<>();
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool, 3);
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).build();
+            expectedPersons.add(person);
+            decoder.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        decoder.decodeInto(assembler);
+        assertEquals(expectedPersons, assembler.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void decodeInto_invalidPersonsInSeveralChunks_reportsFirstInvalidPerson() {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool, 2);
+            for (int i = 0; i < 50; i++) {
+                if (i == 7) {
+                    decoder.add(createAdaptedPerson("Student " + i, "+65"));
+                } else if (i == 3 || i == 30) {
+                    decoder.add(createAdaptedPerson("Student@" + i, VALID_PHONE));
+                } else {
+                    decoder.add(createAdaptedPerson("Student " + i, VALID_PHONE));
+                }
+            }
+
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                    decoder.decodeInto(new AddressBookAssembler()));
+        }
+    }
+
+    @Test
+    public void decodeInto_invalidPersonInLastChunk_throwsIllegalValueException() {
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool, 4);
+        for (int i = 0; i < 5; i++) {
+            decoder.add(createAdaptedPerson("Student " + i, VALID_PHONE));
+        }
+        decoder.add(createAdaptedPerson("Student 5", "+65"));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                decoder.decodeInto(new AddressBookAssembler()));
+    }
+
+    @Test
+    public void decodeInto_duplicatePersonInLaterChunk_throwsIllegalValueException() {
+        ParallelPersonDecoder decoder = new ParallelPersonDecoder(pool, 2);
+        for (int i = 0; i < 10; i++) {
+            decoder.add(createAdaptedPerson("Student " + i, VALID_PHONE));
+        }
+        decoder.add(createAdaptedPerson("Student 1", VALID_PHONE));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                decoder.decodeInto(new AddressBookAssembler()));
+    }
+
+    private static JsonAdaptedPerson createAdaptedPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, VALID_EMAIL, VALID_ADDRESS, List.of(), List.of(), "");
+    }
+}
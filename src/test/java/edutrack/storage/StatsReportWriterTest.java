@@ -0,0 +1,68 @@
+package edutrack.storage;
+
+import static edutrack.testutil.TypicalPersons.ALICE;
+import static edutrack.testutil.TypicalPersons.BENSON;
+import static edutrack.testutil.TypicalPersons.DANIEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edutrack.commons.util.JsonUtil;
+import edutrack.model.AddressBook;
+import edutrack.model.StatsModel;
+import edutrack.model.group.Group;
+import edutrack.testutil.AddressBookBuilder;
+
+public class StatsReportWriterTest {
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(DANIEL).build();
+        addressBook.addGroup(new Group("CS2040S"));
+    }
+
+    @Test
+    public void write_csvFile_writesCrossTab() throws Exception {
+        assertEquals("group,students,friends,owesmoney\n"
+                + "(all),3,3,1\n"
+                + "CS2103T,2,2,0\n"
+                + "CS2101,2,2,1\n"
+                + "CS2040S,0,0,0\n", write(addressBook, "stats.csv"));
+    }
+
+    @Test
+    public void write_jsonFile_writesHistograms() throws Exception {
+        Map<String, Object> expected = Map.of(
+                "students", 3,
+                "tags", Map.of("friends", 3, "owesmoney", 1),
+                "groups", List.of(
+                        Map.of("name", "CS2103T", "students", 2, "tags", Map.of("friends", 2)),
+                        Map.of("name", "CS2101", "students", 2, "tags", Map.of("friends", 2, "owesmoney", 1)),
+                        Map.of("name", "CS2040S", "students", 0, "tags", Map.of())));
+        assertEquals(expected, JsonUtil.fromJsonString(write(addressBook, "stats.JSON"), Map.class));
+    }
+
+    @Test
+    public void write_emptyAddressBook_writesHeaderAndTotalOnly() throws Exception {
+        assertEquals("group,students\n(all),0\n", write(new AddressBook(), "stats.CSV"));
+    }
+
+    /**
+     * Returns the report of {@code addressBook} written for a file named {@code fileName}.
+     */
+    private static String write(AddressBook addressBook, String fileName) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StatsReportWriter.write(new StatsModel(addressBook.getPersonList()), addressBook.getGroupList(),
+                Paths.get("data", fileName), out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
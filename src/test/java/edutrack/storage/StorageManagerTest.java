@@ -1,10 +1,14 @@
 package edutrack.storage;
 
+import static edutrack.testutil.Assert.assertThrows;
 import static edutrack.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.io.TempDir;
 import edutrack.commons.core.GuiSettings;
 import edutrack.model.AddressBook;
 import edutrack.model.ReadOnlyAddressBook;
+import edutrack.model.StatsModel;
 import edutrack.model.UserPrefs;
 
 public class StorageManagerTest {
@@ -60,6 +65,27 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void exportStatistics_csvFile_bytesCounted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path filePath = getTempFilePath("stats.csv");
+
+        storageManager.exportStatistics(new StatsModel(addressBook.getPersonList()), addressBook.getGroupList(),
+                filePath);
+
+        assertEquals(Files.size(filePath), storageManager.getBytesWritten());
+    }
+
+    @Test
+    public void exportStatistics_unwritableFile_throwsIoException() throws Exception {
+        // a directory that is not empty cannot be replaced by the report
+        Path filePath = getTempFilePath("stats.csv");
+        Files.createDirectories(filePath.resolve("child"));
+
+        assertThrows(IOException.class, () -> storageManager.exportStatistics(
+                new StatsModel(new AddressBook().getPersonList()), List.of(), filePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
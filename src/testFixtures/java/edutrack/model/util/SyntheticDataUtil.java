@@ -0,0 +1,139 @@
+package edutrack.model.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import edutrack.model.AddressBook;
+import edutrack.model.group.Group;
+import edutrack.model.person.Address;
+import edutrack.model.person.Email;
+import edutrack.model.person.Name;
+import edutrack.model.person.Note;
+import edutrack.model.person.Person;
+import edutrack.model.person.Phone;
+import edutrack.model.tag.Tag;
+
+/**
+ * Contains utility methods for generating large address books of realistic-looking persons, for benchmarks.
+ * The same size and seed always generate the same address book.
+ *
+ * As in a real roster, a few tags are carried by many persons while most tags are rare, about one in five persons
+ * has a note, and every person is in one or two groups of about {@value #PERSONS_PER_GROUP} persons.
+ */
+public class SyntheticDataUtil {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti", "Wei Ming", "Priya", "Jun Jie",
+        "Nur", "Marcus", "Hui Min", "Arjun", "Mei Ling", "Daniel", "Aisyah", "Ethan", "Kavya", "Zhi Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+        "Rahman", "Kumar", "Chua", "Goh", "Teo", "Pillai", "Ong", "Koh", "Nair", "Sim"
+    };
+    private static final String[] TAG_NAMES = {
+        "friends", "colleagues", "neighbours", "family", "classmates", "needs_help", "median", "upper-quartile",
+        "lower-quartile", "absent", "late", "consult", "weak", "strong", "TA-candidate"
+    };
+    private static final String[] MODULE_PREFIXES = { "CS", "MA", "ST", "IS", "EE" };
+    private static final String[] STREETS = {
+        "Geylang Street", "Serangoon Gardens", "Ang Mo Kio Street", "Tampines Street", "Aljunied Street",
+        "Clementi Ave", "Jurong West Ave", "Bedok North Road"
+    };
+    private static final String[] NOTES = {
+        "Missed the past 3 deadlines.", "Needs more help with recursion.", "Consultation booked for Friday.",
+        "Strong at UML diagrams.", "Late for tutorial twice."
+    };
+
+    /** Number of persons per group on average, as in a tutorial class. */
+    private static final int PERSONS_PER_GROUP = 40;
+
+    /**
+     * Returns {@code count} distinct persons generated from {@code seed}.
+     * Persons with equal tags or groups refer to the same {@code Tag} or {@code Group} instance.
+     */
+    public static List<Person> getSyntheticPersons(int count, long seed) {
+        Random random = new Random(seed);
+        List<Group> groups = getSyntheticGroups(count, random);
+        List<Tag> tags = getSyntheticTags();
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // the index keeps names unique, as persons are identified by their name
+            Name name = new Name(firstName + " " + lastName + " " + i);
+            Phone phone = new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+            Email email = new Email(firstName.replace(" ", "").toLowerCase() + i + "@example.com");
+            Address address = new Address("Blk " + (1 + random.nextInt(999)) + " "
+                    + STREETS[random.nextInt(STREETS.length)] + " " + (1 + random.nextInt(99)) + ", #"
+                    + (1 + random.nextInt(20)) + "-" + (1 + random.nextInt(99)));
+            Note note = new Note(random.nextInt(5) == 0 ? NOTES[random.nextInt(NOTES.length)] : "");
+
+            Set<Tag> personTags = new HashSet<>();
+            for (int tagCount = random.nextInt(4); tagCount > 0; tagCount--) {
+                personTags.add(tags.get(getSkewedIndex(tags.size(), random)));
+            }
+            Set<Group> personGroups = new HashSet<>();
+            for (int groupCount = 1 + random.nextInt(2); groupCount > 0; groupCount--) {
+                personGroups.add(groups.get(random.nextInt(groups.size())));
+            }
+
+            persons.add(new Person(name, phone, email, address, personTags, personGroups, note));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} persons generated from {@code seed}.
+     * Every group and tag of the persons is in the central lists of the address book.
+     */
+    public static AddressBook getSyntheticAddressBook(int count, long seed) {
+        List<Person> persons = getSyntheticPersons(count, seed);
+        Set<Group> groups = new LinkedHashSet<>();
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (Person person : persons) {
+            groups.addAll(person.getGroups());
+            tags.addAll(person.getTags());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setGroups(new ArrayList<>(groups));
+        addressBook.setTags(new ArrayList<>(tags));
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static List<Group> getSyntheticGroups(int personCount, Random random) {
+        int groupCount = Math.max(1, personCount / PERSONS_PER_GROUP);
+        Set<Group> groups = new HashSet<>();
+        List<Group> groupList = new ArrayList<>(groupCount);
+        while (groupList.size() < groupCount) {
+            Group group = new Group(MODULE_PREFIXES[random.nextInt(MODULE_PREFIXES.length)]
+                    + (1000 + random.nextInt(9000)) + "-T" + (1 + random.nextInt(99)));
+            if (groups.add(group)) {
+                groupList.add(group);
+            }
+        }
+        return groupList;
+    }
+
+    /**
+     * Returns a random index below {@code bound}, where smaller indexes are much more likely than larger ones.
+     */
+    private static int getSkewedIndex(int bound, Random random) {
+        double uniform = random.nextDouble();
+        return (int) (uniform * uniform * bound);
+    }
+
+    private static List<Tag> getSyntheticTags() {
+        List<Tag> tags = new ArrayList<>(TAG_NAMES.length);
+        for (String tagName : TAG_NAMES) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+}